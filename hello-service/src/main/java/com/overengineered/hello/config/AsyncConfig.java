@@ -0,0 +1,46 @@
+package com.overengineered.hello.config;
+
+import com.overengineered.common.executor.ExecutorProperties;
+import com.overengineered.common.executor.InstrumentedExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration class for the executors behind the @Async event listeners.
+ * The executor is bounded in both threads and queue size, so an event storm can never
+ * exhaust memory or threads on the request path. Other async work, such as MVC async requests,
+ * runs on the bounded {@code applicationTaskExecutor} configured by {@code spring.task.execution.*}.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String HELLO_EVENT_EXECUTOR = "helloEventExecutor";
+
+    /**
+     * Configure the settings of the event listener executor.
+     *
+     * @return The executor properties, bound from {@code hello.event.executor}
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "hello.event.executor")
+    public ExecutorProperties helloEventExecutorProperties() {
+        ExecutorProperties properties = new ExecutorProperties();
+        properties.setThreadNamePrefix("hello-event-");
+        return properties;
+    }
+
+    /**
+     * Configure the executor used by {@code HelloEventListener}.
+     *
+     * @param meterRegistry The meter registry to report queue depth, active threads and rejections to
+     * @return The configured executor
+     */
+    @Bean(name = HELLO_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor helloEventExecutor(MeterRegistry meterRegistry) {
+        return InstrumentedExecutors.threadPool(HELLO_EVENT_EXECUTOR, "event.executor",
+                helloEventExecutorProperties(), meterRegistry);
+    }
+}
@@ -61,6 +61,19 @@ public class HelloGreeting {
     private Formality formality;
 
     public enum Formality {
-        CASUAL, FORMAL, VERY_FORMAL
+        CASUAL, FORMAL, VERY_FORMAL;
+
+        /**
+         * Map the 1-5 formality level used by the generation API onto a stored formality.
+         *
+         * @param formalityLevel The formality level (1-5)
+         * @return The matching formality
+         */
+        public static Formality fromLevel(int formalityLevel) {
+            if (formalityLevel <= 2) {
+                return CASUAL;
+            }
+            return formalityLevel >= 5 ? VERY_FORMAL : FORMAL;
+        }
     }
 }
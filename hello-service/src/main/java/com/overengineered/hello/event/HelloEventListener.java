@@ -1,6 +1,8 @@
 package com.overengineered.hello.event;
 
+import com.overengineered.hello.config.AsyncConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.event.EventListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Async;
@@ -13,9 +15,11 @@ import java.time.format.DateTimeFormatter;
 /**
  * Listener for HelloGeneratedEvent.
  * Demonstrates the Observer Pattern by listening to events and performing actions.
+ * Publishes one Kafka record per event; see {@link HelloEventRollup} for the windowed alternative.
  */
 @Component
 @Slf4j
+@ConditionalOnProperty(prefix = "hello.event.publishing", name = "mode", havingValue = "per-event", matchIfMissing = true)
 public class HelloEventListener {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
@@ -31,7 +35,7 @@ public class HelloEventListener {
      * @param event The HelloGeneratedEvent
      */
     @EventListener
-    @Async
+    @Async(AsyncConfig.HELLO_EVENT_EXECUTOR)
     public void handleHelloGeneratedEvent(HelloGeneratedEvent event) {
         log.info("Hello event received: {} in language {} using strategy {} at {}",
                 event.getGreeting(),
@@ -0,0 +1,113 @@
+package com.overengineered.hello.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rollup alternative to {@link HelloEventListener}.
+ * Instead of one Kafka record per greeting, events are counted per (language, strategy) and a single
+ * summary record per key is flushed to the "hello-events" topic at the end of every window.
+ * Enabled with {@code hello.event.publishing.mode=rollup}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "hello.event.publishing", name = "mode", havingValue = "rollup")
+public class HelloEventRollup {
+
+    // ConcurrentHashMap does not accept null keys
+    private static final String UNKNOWN = "unknown";
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final Map<String, Map<String, Bucket>> buckets = new ConcurrentHashMap<>();
+
+    public HelloEventRollup(KafkaTemplate<String, String> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    /**
+     * Record the event in the accumulator for its key.
+     * This runs synchronously on the publishing thread; it never blocks and never allocates once the key exists.
+     *
+     * @param event The HelloGeneratedEvent
+     */
+    @EventListener
+    public void handleHelloGeneratedEvent(HelloGeneratedEvent event) {
+        String language = event.getLanguage() != null ? event.getLanguage() : UNKNOWN;
+        String strategy = event.getStrategyUsed() != null ? event.getStrategyUsed() : UNKNOWN;
+        buckets.computeIfAbsent(language, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(strategy, key -> new Bucket())
+                .record(event.getTimestamp());
+    }
+
+    /**
+     * Flush one summary record per key for the window that just ended.
+     * Each bucket with events is swapped for a fresh one before it is read, so the count and timestamps of a
+     * window never mix events of two windows. Keys without events in the window are skipped.
+     */
+    @Scheduled(fixedDelayString = "${hello.event.rollup.window-ms:5000}")
+    public void flush() {
+        long windowEnd = System.currentTimeMillis();
+        buckets.forEach((language, byStrategy) -> byStrategy.forEach((strategy, bucket) -> {
+            if (bucket.count.sum() == 0 || !byStrategy.replace(strategy, bucket, new Bucket())) {
+                return;
+            }
+
+            // Read the count first: an event it includes has already updated the timestamps
+            long count = bucket.count.sum();
+            long minTimestamp = bucket.minTimestamp.get();
+            long maxTimestamp = bucket.maxTimestamp.get();
+
+            try {
+                String message = String.format("{\"type\":\"rollup\",\"language\":\"%s\",\"strategy\":\"%s\",\"count\":%d,\"minTimestamp\":%d,\"maxTimestamp\":%d,\"windowEnd\":%d}",
+                        language,
+                        strategy,
+                        count,
+                        minTimestamp,
+                        maxTimestamp,
+                        windowEnd);
+
+                kafkaTemplate.send("hello-events", language + ":" + strategy, message);
+                log.debug("Rollup of {} events for {}/{} sent to Kafka topic 'hello-events'", count, language, strategy);
+            } catch (Exception e) {
+                log.error("Failed to send rollup event to Kafka", e);
+            }
+        }));
+    }
+
+    /**
+     * Flush whatever has been accumulated so that the last partial window is not lost on shutdown.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing hello event rollups before shutdown");
+        flush();
+    }
+
+    /**
+     * Accumulators for a single (language, strategy) key.
+     * LongAdder and LongAccumulator stripe updates across per-thread cells, so concurrent
+     * recording threads do not contend on a single counter.
+     * The count is updated last, so a reader that sees an event in the count also sees its timestamp.
+     */
+    private static final class Bucket {
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator minTimestamp = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator maxTimestamp = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        private void record(long timestamp) {
+            minTimestamp.accumulate(timestamp);
+            maxTimestamp.accumulate(timestamp);
+            count.increment();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.overengineered.hello.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event that is published when a hello greeting is created, updated or deleted.
+ * Used to refresh the in-memory greeting snapshot once the change has been committed.
+ */
+@Getter
+public class HelloGreetingsChangedEvent extends ApplicationEvent {
+
+    private final Long greetingId;
+
+    /**
+     * Create a new HelloGreetingsChangedEvent.
+     *
+     * @param source The object on which the event initially occurred
+     * @param greetingId The ID of the greeting that changed
+     */
+    public HelloGreetingsChangedEvent(Object source, Long greetingId) {
+        super(source);
+        this.greetingId = greetingId;
+    }
+}
@@ -4,12 +4,15 @@ import com.overengineered.hello.entity.HelloGreeting;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for accessing the HelloGreeting entities.
@@ -46,6 +49,19 @@ public interface HelloGreetingRepository extends JpaRepository<HelloGreeting, Lo
     Optional<HelloGreeting> findTopPriorityByLanguageAndFormality(@Param("language") String language, 
                                                                 @Param("formality") HelloGreeting.Formality formality);
 
+    /**
+     * Stream all active greetings in a single query.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @return Stream of active greetings
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("SELECT h FROM HelloGreeting h WHERE h.isActive = true")
+    Stream<HelloGreeting> streamAllActive();
+
     /**
      * Count the number of greetings for a specific language.
      *
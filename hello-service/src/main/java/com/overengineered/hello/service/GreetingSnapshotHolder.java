@@ -0,0 +1,156 @@
+package com.overengineered.hello.service;
+
+import com.overengineered.hello.entity.HelloGreeting;
+import com.overengineered.hello.event.HelloGreetingsChangedEvent;
+import com.overengineered.hello.repository.HelloGreetingRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Holds an immutable, in-memory snapshot of the active greetings stored in the database.
+ * The snapshot is rebuilt with a single streaming query and swapped atomically, so
+ * {@link HelloService#generateHello} can read DB-managed greeting text without a query per request.
+ * Readers may see a snapshot that is up to one refresh interval old.
+ */
+@Component
+@Slf4j
+public class GreetingSnapshotHolder {
+
+    private static final int FORMALITY_COUNT = HelloGreeting.Formality.values().length;
+
+    private final HelloGreetingRepository helloGreetingRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Snapshot current = new Snapshot(Map.of(), 0L, System.currentTimeMillis());
+
+    public GreetingSnapshotHolder(HelloGreetingRepository helloGreetingRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.helloGreetingRepository = helloGreetingRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("hello.greeting.snapshot.version", this, holder -> holder.current.version)
+                .description("Version of the in-memory greeting snapshot")
+                .register(meterRegistry);
+        Gauge.builder("hello.greeting.snapshot.age.seconds", this, holder -> holder.getAgeMillis() / 1000.0)
+                .description("Age of the in-memory greeting snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Look up the highest-priority active greeting text for a language and formality.
+     *
+     * @param language The language code
+     * @param formality The formality
+     * @return The greeting text, or null if no active greeting is stored
+     */
+    public String lookup(String language, HelloGreeting.Formality formality) {
+        String[] byFormality = current.texts.get(language.toLowerCase(Locale.ROOT));
+        return byFormality != null ? byFormality[formality.ordinal()] : null;
+    }
+
+    /**
+     * Get the version of the current snapshot. Incremented on every successful rebuild.
+     *
+     * @return The snapshot version
+     */
+    public long getVersion() {
+        return current.version;
+    }
+
+    /**
+     * Get the age of the current snapshot.
+     *
+     * @return Milliseconds since the current snapshot was built
+     */
+    public long getAgeMillis() {
+        return System.currentTimeMillis() - current.builtAt;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleGreetingsChanged(HelloGreetingsChangedEvent event) {
+        log.debug("Greeting {} changed, refreshing snapshot", event.getGreetingId());
+        refresh();
+    }
+
+    /**
+     * Rebuild the snapshot from the database and swap it in.
+     * If the rebuild fails, the previous snapshot keeps serving requests.
+     */
+    @Scheduled(fixedDelayString = "${hello.greeting.snapshot.refresh-ms:60000}",
+            initialDelayString = "${hello.greeting.snapshot.refresh-ms:60000}")
+    public synchronized void refresh() {
+        try {
+            Map<String, String[]> texts = readOnlyTransaction.execute(status -> load());
+            Snapshot previous = current;
+            current = new Snapshot(texts, previous.version + 1, System.currentTimeMillis());
+            log.info("Greeting snapshot refreshed to version {} with {} languages", current.version, texts.size());
+        } catch (Exception e) {
+            log.warn("Failed to refresh greeting snapshot, keeping version {}: {}", current.version, e.getMessage());
+        }
+    }
+
+    private Map<String, String[]> load() {
+        Map<String, String[]> texts = new HashMap<>();
+        Map<String, int[]> priorities = new HashMap<>();
+
+        try (Stream<HelloGreeting> greetings = helloGreetingRepository.streamAllActive()) {
+            greetings.forEach(greeting -> {
+                String language = greeting.getLanguage().toLowerCase(Locale.ROOT);
+                int slot = greeting.getFormality().ordinal();
+                int priority = greeting.getPriority() != null ? greeting.getPriority() : Integer.MIN_VALUE;
+
+                String[] byFormality = texts.computeIfAbsent(language, key -> new String[FORMALITY_COUNT]);
+                int[] best = priorities.computeIfAbsent(language, key -> newPriorityRow());
+                if (byFormality[slot] == null || priority > best[slot]) {
+                    byFormality[slot] = greeting.getText();
+                    best[slot] = priority;
+                }
+            });
+        }
+
+        return Map.copyOf(texts);
+    }
+
+    private static int[] newPriorityRow() {
+        int[] row = new int[FORMALITY_COUNT];
+        Arrays.fill(row, Integer.MIN_VALUE);
+        return row;
+    }
+
+    /**
+     * Immutable snapshot of greeting texts, indexed by language and then by formality ordinal.
+     */
+    private static final class Snapshot {
+        private final Map<String, String[]> texts;
+        private final long version;
+        private final long builtAt;
+
+        private Snapshot(Map<String, String[]> texts, long version, long builtAt) {
+            this.texts = texts;
+            this.version = version;
+            this.builtAt = builtAt;
+        }
+    }
+}
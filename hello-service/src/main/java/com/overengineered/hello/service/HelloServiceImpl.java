@@ -3,6 +3,7 @@ package com.overengineered.hello.service;
 import com.overengineered.hello.dto.HelloGreetingDto;
 import com.overengineered.hello.entity.HelloGreeting;
 import com.overengineered.hello.event.HelloGeneratedEvent;
+import com.overengineered.hello.event.HelloGreetingsChangedEvent;
 import com.overengineered.hello.exception.GreetingNotFoundException;
 import com.overengineered.hello.factory.HelloStrategyFactory;
 import com.overengineered.hello.mapper.HelloGreetingMapper;
@@ -36,6 +37,7 @@ public class HelloServiceImpl implements HelloService {
     private final HelloGreetingRepository helloGreetingRepository;
     private final HelloGreetingMapper helloGreetingMapper;
     private final HelloStrategyFactory helloStrategyFactory;
+    private final GreetingSnapshotHolder greetingSnapshotHolder;
     private final ApplicationEventPublisher eventPublisher;
 
     @Override
@@ -72,6 +74,7 @@ public class HelloServiceImpl implements HelloService {
         log.info("Saving new hello greeting: {}", greetingDto);
         HelloGreeting entity = helloGreetingMapper.toEntity(greetingDto);
         HelloGreeting savedEntity = helloGreetingRepository.save(entity);
+        eventPublisher.publishEvent(new HelloGreetingsChangedEvent(this, savedEntity.getId()));
         return helloGreetingMapper.toDto(savedEntity);
     }
 
@@ -85,6 +88,7 @@ public class HelloServiceImpl implements HelloService {
         
         HelloGreeting updatedEntity = helloGreetingMapper.updateEntityFromDto(greetingDto, entity);
         HelloGreeting savedEntity = helloGreetingRepository.save(updatedEntity);
+        eventPublisher.publishEvent(new HelloGreetingsChangedEvent(this, id));
         return helloGreetingMapper.toDto(savedEntity);
     }
 
@@ -95,13 +99,13 @@ public class HelloServiceImpl implements HelloService {
         log.info("Deleting hello greeting with ID: {}", id);
         if (helloGreetingRepository.existsById(id)) {
             helloGreetingRepository.deleteById(id);
+            eventPublisher.publishEvent(new HelloGreetingsChangedEvent(this, id));
         } else {
             throw new GreetingNotFoundException("Greeting not found with ID: " + id);
         }
     }
 
     @Override
-    @Transactional(readOnly = true)
     @CircuitBreaker(name = "helloService", fallbackMethod = "fallbackGenerateHello")
     @Retry(name = "helloService")
     public String generateHello(String language, int formalityLevel) {
@@ -110,8 +114,11 @@ public class HelloServiceImpl implements HelloService {
         // Select appropriate strategy using factory
         HelloGenerationStrategy strategy = helloStrategyFactory.getStrategy(language, formalityLevel);
         
+        // Use the DB-managed text from the in-memory snapshot if one exists; strategies fall back to built-in text
+        String storedText = greetingSnapshotHolder.lookup(language, HelloGreeting.Formality.fromLevel(formalityLevel));
+        
         // Generate the greeting
-        String greeting = strategy.generateHello(null, language);
+        String greeting = strategy.generateHello(storedText, language);
         
         // Publish event
         eventPublisher.publishEvent(new HelloGeneratedEvent(this, greeting, language, strategy.getStrategyName()));
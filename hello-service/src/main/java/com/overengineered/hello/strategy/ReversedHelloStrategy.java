@@ -15,33 +15,35 @@ public class ReversedHelloStrategy implements HelloGenerationStrategy {
     public String generateHello(String input, String language) {
         log.info("Generating reversed hello greeting in language: {}", language);
         
-        // First get the standard greeting for the language
-        String standardGreeting;
-        switch (language.toLowerCase()) {
-            case "en":
-                standardGreeting = "Hello";
-                break;
-            case "es":
-                standardGreeting = "Hola";
-                break;
-            case "fr":
-                standardGreeting = "Bonjour";
-                break;
-            case "de":
-                standardGreeting = "Hallo";
-                break;
-            case "it":
-                standardGreeting = "Ciao";
-                break;
-            case "zh":
-                standardGreeting = "你好";
-                break;
-            case "ja":
-                standardGreeting = "こんにちは";
-                break;
-            default:
-                log.warn("Unsupported language: {}. Defaulting to English.", language);
-                standardGreeting = "Hello";
+        // Use the stored greeting if one was provided, otherwise the standard greeting for the language
+        String standardGreeting = input;
+        if (standardGreeting == null) {
+            switch (language.toLowerCase()) {
+                case "en":
+                    standardGreeting = "Hello";
+                    break;
+                case "es":
+                    standardGreeting = "Hola";
+                    break;
+                case "fr":
+                    standardGreeting = "Bonjour";
+                    break;
+                case "de":
+                    standardGreeting = "Hallo";
+                    break;
+                case "it":
+                    standardGreeting = "Ciao";
+                    break;
+                case "zh":
+                    standardGreeting = "你好";
+                    break;
+                case "ja":
+                    standardGreeting = "こんにちは";
+                    break;
+                default:
+                    log.warn("Unsupported language: {}. Defaulting to English.", language);
+                    standardGreeting = "Hello";
+            }
         }
         
         // Unnecessarily complex way to reverse a string
@@ -15,33 +15,36 @@ public class StandardHelloStrategy implements HelloGenerationStrategy {
     public String generateHello(String input, String language) {
         log.info("Generating standard hello greeting in language: {}", language);
         
-        String result;
+        // Use the stored greeting if one was provided
+        String result = input;
         // Pointlessly complex implementation for different languages
-        switch (language.toLowerCase()) {
-            case "en":
-                result = "Hello";
-                break;
-            case "es":
-                result = "Hola";
-                break;
-            case "fr":
-                result = "Bonjour";
-                break;
-            case "de":
-                result = "Hallo";
-                break;
-            case "it":
-                result = "Ciao";
-                break;
-            case "zh":
-                result = "你好";
-                break;
-            case "ja":
-                result = "こんにちは";
-                break;
-            default:
-                log.warn("Unsupported language: {}. Defaulting to English.", language);
-                result = "Hello";
+        if (result == null) {
+            switch (language.toLowerCase()) {
+                case "en":
+                    result = "Hello";
+                    break;
+                case "es":
+                    result = "Hola";
+                    break;
+                case "fr":
+                    result = "Bonjour";
+                    break;
+                case "de":
+                    result = "Hallo";
+                    break;
+                case "it":
+                    result = "Ciao";
+                    break;
+                case "zh":
+                    result = "你好";
+                    break;
+                case "ja":
+                    result = "こんにちは";
+                    break;
+                default:
+                    log.warn("Unsupported language: {}. Defaulting to English.", language);
+                    result = "Hello";
+            }
         }
         
         log.debug("Generated standard greeting: {}", result);
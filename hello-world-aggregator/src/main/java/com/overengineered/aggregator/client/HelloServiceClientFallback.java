@@ -11,10 +11,15 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class HelloServiceClientFallback implements HelloServiceClient {
 
+    /**
+     * Text returned when the service is unavailable. Never cached.
+     */
+    public static final String FALLBACK_HELLO = "Hello (fallback)";
+
     @Override
     public String generateHello(String language, int formalityLevel) {
         log.warn("Fallback method invoked for generateHello with language: {} and formality level: {}", 
                 language, formalityLevel);
-        return "Hello (fallback)";
+        return FALLBACK_HELLO;
     }
 }
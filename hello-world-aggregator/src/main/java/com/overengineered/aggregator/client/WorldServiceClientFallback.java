@@ -11,10 +11,15 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class WorldServiceClientFallback implements WorldServiceClient {
 
+    /**
+     * Text returned when the service is unavailable. Never cached.
+     */
+    public static final String FALLBACK_WORLD = "World (fallback)";
+
     @Override
     public String generateWorld(String language, String planetType, String scope) {
         log.warn("Fallback method invoked for generateWorld with language: {}, planet type: {}, and scope: {}", 
                 language, planetType, scope);
-        return "World (fallback)";
+        return FALLBACK_WORLD;
     }
 }
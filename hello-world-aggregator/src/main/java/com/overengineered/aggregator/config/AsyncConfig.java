@@ -0,0 +1,63 @@
+package com.overengineered.aggregator.config;
+
+import com.overengineered.common.executor.ExecutorProperties;
+import com.overengineered.common.executor.InstrumentedExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration class for the executors behind the @Async event listeners and the downstream service calls.
+ * Both executors are bounded in threads and queue size, so an event storm or a slow downstream service
+ * can never exhaust memory or threads on the request path. Other async work, such as MVC async requests,
+ * runs on the bounded {@code applicationTaskExecutor} configured by {@code spring.task.execution.*}.
+ */
+@Configuration
+@Slf4j
+public class AsyncConfig {
+
+    public static final String HELLO_WORLD_EVENT_EXECUTOR = "helloWorldEventExecutor";
+    public static final String DOWNSTREAM_CLIENT_EXECUTOR = "downstreamClientExecutor";
+
+    /**
+     * Configure the settings of the event listener executor.
+     *
+     * @return The executor properties, bound from {@code aggregator.async.events}
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "aggregator.async.events")
+    public ExecutorProperties helloWorldEventExecutorProperties() {
+        ExecutorProperties properties = new ExecutorProperties();
+        properties.setThreadNamePrefix("hello-world-event-");
+        return properties;
+    }
+
+    /**
+     * Configure the executor used by {@code HelloWorldEventListener}.
+     *
+     * @param meterRegistry The meter registry to report queue depth, active threads and rejections to
+     * @return The configured executor
+     */
+    @Bean(name = HELLO_WORLD_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor helloWorldEventExecutor(MeterRegistry meterRegistry) {
+        return InstrumentedExecutors.threadPool(HELLO_WORLD_EVENT_EXECUTOR, "event.executor",
+                helloWorldEventExecutorProperties(), meterRegistry);
+    }
+
+    /**
+     * Configure the executor used to call the Hello and World services concurrently.
+     * When saturated, calls run on the request thread, which degrades to sequential calls instead of failing.
+     *
+     * @param properties The executor properties
+     * @param meterRegistry The meter registry to report queue depth, active threads and rejections to
+     * @return The configured executor
+     */
+    @Bean(name = DOWNSTREAM_CLIENT_EXECUTOR)
+    public ThreadPoolTaskExecutor downstreamClientExecutor(ClientExecutorProperties properties, MeterRegistry meterRegistry) {
+        log.info("Downstream calls share a deadline of {}ms", properties.getDeadlineMs());
+        return InstrumentedExecutors.threadPool(DOWNSTREAM_CLIENT_EXECUTOR, "client.executor", properties, meterRegistry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.overengineered.aggregator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the worker pool that runs asynchronous Hello World generations.
+ */
+@Component
+@ConfigurationProperties(prefix = "aggregator.async")
+@Data
+public class AsyncGenerationProperties {
+
+    /**
+     * Number of workers kept alive even when idle.
+     */
+    private int corePoolSize = 10;
+
+    /**
+     * Upper bound on the number of workers. Workers above the core size are only started when the queue is full.
+     */
+    private int maxPoolSize = 50;
+
+    /**
+     * Upper bound on the number of queued generations. Submissions beyond it are rejected with 429.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * Idle time after which workers above the core size are released.
+     */
+    private int keepAliveSeconds = 60;
+
+    /**
+     * Prefix for the names of the worker threads.
+     */
+    private String threadNamePrefix = "async-exec-";
+
+    /**
+     * Highest accepted priority; requested priorities are clamped to 0..maxPriority.
+     */
+    private int maxPriority = 9;
+
+    /**
+     * Upper bound on the Retry-After value returned when the queue is full.
+     */
+    private long maxRetryAfterSeconds = 60;
+}
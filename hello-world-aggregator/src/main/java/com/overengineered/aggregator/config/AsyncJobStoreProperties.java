@@ -0,0 +1,49 @@
+package com.overengineered.aggregator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the store that tracks asynchronous Hello World generations.
+ */
+@Component
+@ConfigurationProperties(prefix = "aggregator.async.jobs")
+@Data
+public class AsyncJobStoreProperties {
+
+    /**
+     * Hard upper bound on the number of jobs kept by one instance.
+     */
+    private int maxEntries = 10000;
+
+    /**
+     * Time a job is kept after its last status change.
+     */
+    private long ttlSeconds = 600;
+
+    /**
+     * Interval between sweeps that remove expired jobs.
+     */
+    private long purgeIntervalMs = 30000;
+
+    /**
+     * Whether jobs are also written to Redis, so that any instance can answer a status check.
+     */
+    private boolean redisEnabled = false;
+
+    /**
+     * Interval between the pipelined flushes of pending job writes to Redis.
+     */
+    private long redisFlushIntervalMs = 50;
+
+    /**
+     * Interval between the Redis polls that resolve waiters for jobs running on another instance.
+     */
+    private long remotePollIntervalMs = 250;
+
+    /**
+     * Prefix of the Redis keys holding the jobs.
+     */
+    private String redisKeyPrefix = "helloWorldJob:";
+}
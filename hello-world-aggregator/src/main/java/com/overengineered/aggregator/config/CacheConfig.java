@@ -0,0 +1,87 @@
+package com.overengineered.aggregator.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the caches of the aggregator.
+ * Only the hello and world fragments are cached; request transformations are applied to them on every request.
+ * Each cache is a near cache: a bounded in-memory level in front of Redis, kept coherent across instances
+ * by invalidation messages on a Redis channel.
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Name of the cache holding hello texts, keyed by language and formality.
+     */
+    public static final String HELLO_FRAGMENTS_CACHE = "helloFragments";
+
+    /**
+     * Name of the cache holding world texts, keyed by language, planet type and scope.
+     */
+    public static final String WORLD_FRAGMENTS_CACHE = "worldFragments";
+
+    /**
+     * Configure the cache manager.
+     * Fragments are plain strings, so they are stored in Redis as UTF-8 rather than as serialized Java objects.
+     *
+     * @param connectionFactory The Redis connection factory
+     * @param fragmentTtlSeconds Time to live of the fragment entries in Redis
+     * @param nearCacheProperties The in-memory level settings
+     * @param redisTemplate The template used to publish invalidations
+     * @param meterRegistry The registry of the cache metrics
+     * @return The near cache manager
+     */
+    @Bean
+    public NearCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                         @Value("${aggregator.cache.fragment-ttl-seconds:3600}") long fragmentTtlSeconds,
+                                         NearCacheProperties nearCacheProperties,
+                                         StringRedisTemplate redisTemplate,
+                                         MeterRegistry meterRegistry) {
+        RedisCacheConfiguration fragments = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofSeconds(fragmentTtlSeconds))
+                .disableCachingNullValues()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.string()));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(fragments)
+                .withCacheConfiguration(HELLO_FRAGMENTS_CACHE, fragments)
+                .withCacheConfiguration(WORLD_FRAGMENTS_CACHE, fragments)
+                .build();
+        // Not a bean itself, so the configured caches must be loaded here
+        redisCacheManager.initializeCaches();
+
+        return new NearCacheManager(redisCacheManager, nearCacheProperties, redisTemplate, meterRegistry);
+    }
+
+    /**
+     * Subscribe the cache manager to the invalidations published by the other instances.
+     *
+     * @param connectionFactory The Redis connection factory
+     * @param cacheManager The near cache manager
+     * @param nearCacheProperties The in-memory level settings
+     * @return The listener container
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            NearCacheManager cacheManager,
+                                                                            NearCacheProperties nearCacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(nearCacheProperties.getInvalidationChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,33 @@
+package com.overengineered.aggregator.config;
+
+import com.overengineered.common.executor.ExecutorProperties;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the executor that issues the downstream Hello and World service calls.
+ * Defaults to 20 core and 40 max threads, a queue of 100 calls, and running calls on the request thread
+ * when saturated. The max pool size should cover the bulkhead limits of both downstream services.
+ */
+@Component
+@ConfigurationProperties(prefix = "aggregator.client.executor")
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ClientExecutorProperties extends ExecutorProperties {
+
+    /**
+     * Overall deadline shared by the Hello and World calls of a single request.
+     * A call that has not completed by then is replaced by its fallback.
+     */
+    private long deadlineMs = 5000;
+
+    public ClientExecutorProperties() {
+        setCorePoolSize(20);
+        setMaxPoolSize(40);
+        setQueueCapacity(100);
+        setThreadNamePrefix("downstream-io-");
+        setRejectionPolicy(RejectionPolicy.CALLER_RUNS);
+    }
+}
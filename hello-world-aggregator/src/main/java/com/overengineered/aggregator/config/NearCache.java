@@ -0,0 +1,191 @@
+package com.overengineered.aggregator.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Two-level cache: a bounded in-memory cache (L1) in front of a shared remote cache (L2).
+ * Reads try L1 first and copy L2 hits into L1. Writes and evictions go to both levels, then announce the key
+ * through the invalidator, so other instances drop their L1 copy. Null values are not cached.
+ */
+public class NearCache implements Cache {
+
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Consumer<Object> invalidator;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+
+    /**
+     * Create a near cache.
+     *
+     * @param remote The shared cache used as L2
+     * @param properties The L1 size and TTL
+     * @param invalidator Announces a changed key to the other instances; null means all keys
+     * @param meterRegistry The registry of the hit metrics
+     */
+    public NearCache(Cache remote, NearCacheProperties properties, Consumer<Object> invalidator,
+                     MeterRegistry meterRegistry) {
+        this.remote = remote;
+        this.invalidator = invalidator;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.getLocalTtlSeconds()))
+                .build();
+
+        registerLevel(meterRegistry, "l1", localHits, localMisses);
+        registerLevel(meterRegistry, "l2", remoteHits, remoteMisses);
+        Gauge.builder("cache.near.size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .description("Number of entries in the local cache")
+                .tag("cache", getName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    /**
+     * Look up a value in L1 only, e.g. to answer without leaving the calling thread.
+     * A hit is recorded; a miss is not, since the caller is expected to fall back to {@link #get(Object)}.
+     *
+     * @param key The key
+     * @return The value, or null if it is not held locally
+     */
+    public Object peekLocal(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = lookup(key);
+        return value != null ? new SimpleValueWrapper(value) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        Object value = lookup(key);
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) value;
+        }
+
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        remote.put(key, value);
+        local.put(key, value);
+        invalidator.accept(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(key);
+        invalidator.accept(key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidator.accept(null);
+    }
+
+    /**
+     * Drop a key from L1 after another instance changed it.
+     *
+     * @param key The key, or null to drop all keys
+     */
+    public void evictLocal(Object key) {
+        if (key != null) {
+            local.invalidate(key);
+        } else {
+            local.invalidateAll();
+        }
+    }
+
+    private Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        localMisses.increment();
+
+        ValueWrapper wrapper = remote.get(key);
+        value = wrapper != null ? wrapper.get() : null;
+        if (value == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        local.put(key, value);
+        return value;
+    }
+
+    private void registerLevel(MeterRegistry meterRegistry, String level, LongAdder hits, LongAdder misses) {
+        FunctionCounter.builder("cache.near.gets", hits, LongAdder::sum)
+                .description("Number of lookups per cache level")
+                .tags("cache", getName(), "level", level, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.near.gets", misses, LongAdder::sum)
+                .description("Number of lookups per cache level")
+                .tags("cache", getName(), "level", level, "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.near.hit.ratio", this, cache -> ratio(hits.sum(), misses.sum()))
+                .description("Share of lookups that reach a cache level and are answered by it")
+                .tags("cache", getName(), "level", level)
+                .register(meterRegistry);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total > 0 ? (double) hits / total : 0.0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.overengineered.aggregator.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache manager that puts a {@link NearCache} in front of every cache of a remote cache manager.
+ * Instances keep their local levels coherent through Redis pub/sub: every write or eviction publishes
+ * {@code <instance> <cache> <key>}, where the key is the packed value of a {@link PackedCacheKey} in base 36
+ * ({@code p:} prefix) or a plain string key ({@code s:} prefix), and {@code *} means the whole cache.
+ * Messages published by this instance are ignored.
+ */
+@Slf4j
+public class NearCacheManager implements CacheManager, MessageListener {
+
+    private static final String ALL_KEYS = "*";
+    private static final String PACKED_PREFIX = "p:";
+    private static final String STRING_PREFIX = "s:";
+
+    private final CacheManager remote;
+    private final NearCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, NearCache> caches = new ConcurrentHashMap<>();
+
+    public NearCacheManager(CacheManager remote, NearCacheProperties properties,
+                            StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.remote = remote;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        NearCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new NearCache(remoteCache, properties,
+                changedKey -> publish(name, changedKey), meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    /**
+     * Drop the local copy of an entry another instance changed.
+     *
+     * @param message The invalidation message
+     * @param pattern The channel pattern, unused
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(" ", 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        NearCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evictLocal(decodeKey(parts[2]));
+        } catch (RuntimeException e) {
+            // The entry expires from the local cache after its TTL anyway
+            log.warn("Ignoring malformed cache invalidation for cache {}: {}", parts[1], parts[2]);
+        }
+    }
+
+    /**
+     * Announce a changed key. A failure only delays the other instances until their local copy expires,
+     * so it is logged rather than propagated.
+     *
+     * @param cacheName The cache name
+     * @param key The changed key, or null for the whole cache
+     */
+    private void publish(String cacheName, Object key) {
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(),
+                    instanceId + " " + cacheName + " " + encodeKey(key));
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish invalidation of {} in cache {}: {}", key, cacheName, e.getMessage());
+        }
+    }
+
+    private static String encodeKey(Object key) {
+        if (key == null) {
+            return ALL_KEYS;
+        }
+        if (key instanceof PackedCacheKey) {
+            return PACKED_PREFIX + key;
+        }
+        return STRING_PREFIX + key;
+    }
+
+    private static Object decodeKey(String token) {
+        if (ALL_KEYS.equals(token)) {
+            return null;
+        }
+        if (token.startsWith(PACKED_PREFIX)) {
+            return PackedCacheKey.fromValue(Long.parseLong(token.substring(PACKED_PREFIX.length()), Character.MAX_RADIX));
+        }
+        if (token.startsWith(STRING_PREFIX)) {
+            return token.substring(STRING_PREFIX.length());
+        }
+        throw new IllegalArgumentException("Unknown key encoding: " + token);
+    }
+}
@@ -0,0 +1,30 @@
+package com.overengineered.aggregator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the local level of the fragment caches.
+ */
+@Component
+@ConfigurationProperties(prefix = "aggregator.cache.near")
+@Data
+public class NearCacheProperties {
+
+    /**
+     * Maximum number of entries kept in memory per cache; the least recently used entries are evicted first.
+     */
+    private long maxEntries = 10000;
+
+    /**
+     * Time an entry is kept in memory after it was loaded. Bounds how stale an entry can get if an
+     * invalidation message is lost.
+     */
+    private long localTtlSeconds = 60;
+
+    /**
+     * Redis pub/sub channel on which instances announce the entries they changed.
+     */
+    private String invalidationChannel = "aggregator:cache:invalidation";
+}
@@ -0,0 +1,134 @@
+package com.overengineered.aggregator.config;
+
+import com.overengineered.aggregator.model.GeographicalScope;
+import com.overengineered.aggregator.model.PlanetType;
+
+/**
+ * Cache key that packs the parameters of a Hello World fragment into a single long.
+ * Layout, from the lowest bits: scope ordinal + 1 (8 bits), planet ordinal + 1 (8 bits), formality + 1 (8 bits)
+ * and a language code of up to three letters, 5 bits per letter (15 bits). A zero field means the parameter is
+ * absent, so the hello and world fragments share one layout and a missing enum never causes an NPE.
+ * Keys are written to Redis in base 36, which is a fraction of the size of the concatenated parameters.
+ * Keys are immutable and reused: the latest key of each slot of a small direct-mapped table is returned again,
+ * so the bounded set of keys in use is not reallocated on every lookup.
+ */
+public final class PackedCacheKey {
+
+    private static final int SCOPE_SHIFT = 0;
+    private static final int PLANET_SHIFT = 8;
+    private static final int FORMALITY_SHIFT = 16;
+    private static final int LANGUAGE_SHIFT = 24;
+    private static final int FIELD_MASK = 0xFF;
+    private static final int MAX_LANGUAGE_LENGTH = 3;
+    private static final int CACHE_BITS = 12;
+    // Slots are written without locking: a key is immutable, so a racing reader sees either key whole
+    private static final PackedCacheKey[] CACHE = new PackedCacheKey[1 << CACHE_BITS];
+
+    private final long value;
+
+    private PackedCacheKey(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Build the key of a fragment.
+     * Parameters that cannot be packed, such as a language with a region suffix, produce a string key instead,
+     * which is as correct but larger.
+     *
+     * @param language The language code
+     * @param formalityLevel The formality level, or null for a world fragment
+     * @param planetType The planet type, or null for a hello fragment
+     * @param scope The geographical scope, or null for a hello fragment
+     * @return The packed key, or a string key if the parameters cannot be packed
+     */
+    public static Object of(String language, Integer formalityLevel, PlanetType planetType, GeographicalScope scope) {
+        long packedLanguage = packLanguage(language);
+        if (packedLanguage < 0 || (formalityLevel != null && (formalityLevel < 0 || formalityLevel >= FIELD_MASK))) {
+            return language + "-" + formalityLevel + "-" + planetType + "-" + scope;
+        }
+
+        long value = packedLanguage << LANGUAGE_SHIFT
+                | (long) (formalityLevel != null ? formalityLevel + 1 : 0) << FORMALITY_SHIFT
+                | (long) (planetType != null ? planetType.ordinal() + 1 : 0) << PLANET_SHIFT
+                | (long) (scope != null ? scope.ordinal() + 1 : 0) << SCOPE_SHIFT;
+        return cached(value);
+    }
+
+    /**
+     * Rebuild a key from its packed value, e.g. one received in an invalidation message.
+     *
+     * @param value The packed value
+     * @return The key
+     */
+    public static PackedCacheKey fromValue(long value) {
+        return cached(value);
+    }
+
+    /**
+     * Get the key of a packed value from the table, replacing the key of another value in the same slot.
+     *
+     * @param value The packed value
+     * @return The key
+     */
+    private static PackedCacheKey cached(long value) {
+        // Fibonacci hashing spreads the packed fields over the slots
+        int slot = (int) ((value * 0x9E3779B97F4A7C15L) >>> (Long.SIZE - CACHE_BITS));
+        PackedCacheKey key = CACHE[slot];
+        if (key == null || key.value != value) {
+            key = new PackedCacheKey(value);
+            CACHE[slot] = key;
+        }
+        return key;
+    }
+
+    /**
+     * Get the packed value.
+     *
+     * @return The packed value
+     */
+    public long value() {
+        return value;
+    }
+
+    /**
+     * Pack a language code of up to three ASCII letters, case-insensitively.
+     *
+     * @param language The language code
+     * @return The packed code, or -1 if the code cannot be packed
+     */
+    private static long packLanguage(String language) {
+        if (language == null || language.isEmpty() || language.length() > MAX_LANGUAGE_LENGTH) {
+            return -1;
+        }
+
+        long packed = 0;
+        for (int i = 0; i < language.length(); i++) {
+            char c = Character.toLowerCase(language.charAt(i));
+            if (c < 'a' || c > 'z') {
+                return -1;
+            }
+            packed = packed << 5 | (c - 'a' + 1);
+        }
+        return packed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof PackedCacheKey && ((PackedCacheKey) o).value == value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    /**
+     * Used by the Redis cache to build the entry key.
+     *
+     * @return The packed value in base 36
+     */
+    @Override
+    public String toString() {
+        return Long.toString(value, Character.MAX_RADIX);
+    }
+}
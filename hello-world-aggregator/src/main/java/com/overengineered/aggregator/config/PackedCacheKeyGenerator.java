@@ -0,0 +1,40 @@
+package com.overengineered.aggregator.config;
+
+import com.overengineered.aggregator.model.GeographicalScope;
+import com.overengineered.aggregator.model.PlanetType;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * Key generator for the fragment caches. Builds a {@link PackedCacheKey} from the method parameters by type:
+ * the String is the language, the Integer the formality level and the enums the planet type and scope.
+ */
+@Component(PackedCacheKeyGenerator.NAME)
+public class PackedCacheKeyGenerator implements KeyGenerator {
+
+    public static final String NAME = "packedCacheKeyGenerator";
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        String language = null;
+        Integer formalityLevel = null;
+        PlanetType planetType = null;
+        GeographicalScope scope = null;
+
+        for (Object param : params) {
+            if (param instanceof String) {
+                language = (String) param;
+            } else if (param instanceof Integer) {
+                formalityLevel = (Integer) param;
+            } else if (param instanceof PlanetType) {
+                planetType = (PlanetType) param;
+            } else if (param instanceof GeographicalScope) {
+                scope = (GeographicalScope) param;
+            }
+        }
+
+        return PackedCacheKey.of(language, formalityLevel, planetType, scope);
+    }
+}
@@ -1,5 +1,7 @@
 package com.overengineered.aggregator.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overengineered.aggregator.dto.AsyncJobDto;
 import com.overengineered.aggregator.dto.HelloWorldResponseDto;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,4 +40,28 @@ public class RedisConfig {
         
         return template;
     }
+
+    /**
+     * Configure a RedisTemplate for storing asynchronous jobs.
+     * Uses the application ObjectMapper, so the date fields of the job and its result are serialized as well.
+     *
+     * @param connectionFactory The Redis connection factory
+     * @param objectMapper The application ObjectMapper
+     * @return The configured RedisTemplate
+     */
+    @Bean
+    public RedisTemplate<String, AsyncJobDto> asyncJobRedisTemplate(
+            RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+        
+        RedisTemplate<String, AsyncJobDto> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        
+        Jackson2JsonRedisSerializer<AsyncJobDto> serializer = new Jackson2JsonRedisSerializer<>(AsyncJobDto.class);
+        serializer.setObjectMapper(objectMapper);
+        
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(serializer);
+        
+        return template;
+    }
 }
@@ -0,0 +1,25 @@
+package com.overengineered.aggregator.config;
+
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Configuration class for the non-blocking downstream clients.
+ */
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * Configure a WebClient builder that resolves service names such as {@code hello-service}
+     * through Eureka and the Spring Cloud load balancer, like the Feign clients do.
+     *
+     * @return The load-balanced WebClient builder
+     */
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder() {
+        return WebClient.builder();
+    }
+}
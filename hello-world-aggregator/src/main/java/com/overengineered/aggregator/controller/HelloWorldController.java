@@ -1,8 +1,13 @@
 package com.overengineered.aggregator.controller;
 
+import com.overengineered.aggregator.dto.AsyncJobDto;
 import com.overengineered.aggregator.dto.HelloWorldRequestDto;
 import com.overengineered.aggregator.dto.HelloWorldResponseDto;
+import com.overengineered.aggregator.exception.DownstreamUnavailableException;
+import com.overengineered.aggregator.exception.TooManyAsyncRequestsException;
+import com.overengineered.aggregator.model.AsyncJobStatus;
 import com.overengineered.aggregator.service.HelloWorldAggregatorService;
+import com.overengineered.aggregator.service.ReactiveHelloWorldAggregatorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,18 +17,32 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * REST controller for generating Hello World messages.
  * This class is absurdly over-engineered for a simple hello world application.
+ * Synchronous generation returns a Mono, so the servlet thread is released while the downstream services respond.
  */
 @RestController
 @RequestMapping("/api/v1/hello-world")
@@ -33,46 +52,52 @@ import java.util.Map;
 @Tag(name = "Hello World API", description = "Operations for generating Hello World messages")
 public class HelloWorldController {
 
+    private static final long MAX_WAIT_MS = 30000;
+    private static final int MAX_STREAMED_REQUEST_IDS = 100;
+
     private final HelloWorldAggregatorService aggregatorService;
+    private final ReactiveHelloWorldAggregatorService reactiveAggregatorService;
 
     /**
      * GET /api/v1/hello-world : Get a default Hello World message
      *
-     * @return ResponseEntity with the Hello World message
+     * @return Mono emitting the ResponseEntity with the Hello World message
      */
     @GetMapping
     @Operation(summary = "Get a default Hello World message")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully generated message"),
-            @ApiResponse(responseCode = "500", description = "Internal server error")
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+            @ApiResponse(responseCode = "503", description = "Neither downstream service is available")
     })
-    public ResponseEntity<HelloWorldResponseDto> getDefaultHelloWorld() {
+    public Mono<ResponseEntity<HelloWorldResponseDto>> getDefaultHelloWorld() {
         log.info("REST request to get default Hello World message");
-        HelloWorldResponseDto response = aggregatorService.generateDefaultHelloWorld();
-        return ResponseEntity.ok(response);
+        return reactiveAggregatorService.generateDefaultHelloWorld()
+                .map(ResponseEntity::ok);
     }
 
     /**
      * POST /api/v1/hello-world : Generate a customized Hello World message
      *
      * @param requestDto The request containing all customization parameters
-     * @return ResponseEntity with the generated Hello World message
+     * @return Mono emitting the ResponseEntity with the generated Hello World message
      */
     @PostMapping
     @Operation(summary = "Generate a customized Hello World message")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully generated message"),
             @ApiResponse(responseCode = "400", description = "Invalid input"),
-            @ApiResponse(responseCode = "500", description = "Internal server error")
+            @ApiResponse(responseCode = "500", description = "Internal server error"),
+            @ApiResponse(responseCode = "503", description = "Neither downstream service is available")
     })
-    public ResponseEntity<HelloWorldResponseDto> generateHelloWorld(
+    public Mono<ResponseEntity<HelloWorldResponseDto>> generateHelloWorld(
             @Parameter(description = "Request with customization parameters", required = true, 
                     schema = @Schema(implementation = HelloWorldRequestDto.class))
             @Valid @RequestBody HelloWorldRequestDto requestDto) {
         
         log.info("REST request to generate customized Hello World message: {}", requestDto);
-        HelloWorldResponseDto response = aggregatorService.generateHelloWorld(requestDto);
-        return ResponseEntity.ok(response);
+        return reactiveAggregatorService.generateHelloWorld(requestDto)
+                .map(ResponseEntity::ok);
     }
 
     /**
@@ -102,6 +127,8 @@ public class HelloWorldController {
      * POST /api/v1/hello-world/async : Generate a Hello World message asynchronously
      *
      * @param requestDto The request containing all customization parameters
+     * @param clientId The ID of the calling client, used to share the async workers fairly between clients
+     * @param priority The priority of the request; higher runs first
      * @return ResponseEntity with the request ID that can be used to retrieve the result later
      */
     @PostMapping("/async")
@@ -109,20 +136,27 @@ public class HelloWorldController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "202", description = "Request accepted"),
             @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "429", description = "Too many requests queued, retry after the Retry-After delay"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Map<String, String>> generateHelloWorldAsync(
             @Parameter(description = "Request with customization parameters", required = true, 
                     schema = @Schema(implementation = HelloWorldRequestDto.class))
-            @Valid @RequestBody HelloWorldRequestDto requestDto) {
+            @Valid @RequestBody HelloWorldRequestDto requestDto,
+            @Parameter(description = "ID of the calling client")
+            @RequestHeader(value = "X-Client-Id", defaultValue = "anonymous") String clientId,
+            @Parameter(description = "Priority of the request, from 0 (default) to 9")
+            @RequestHeader(value = "X-Priority", defaultValue = "0") int priority) {
         
-        log.info("REST request to generate Hello World message asynchronously: {}", requestDto);
-        String requestId = aggregatorService.generateHelloWorldAsync(requestDto);
+        log.info("REST request to generate Hello World message asynchronously for client {}: {}", clientId, requestDto);
+        String requestId = aggregatorService.generateHelloWorldAsync(requestDto, clientId, priority);
         
         Map<String, String> response = new HashMap<>();
         response.put("requestId", requestId);
-        response.put("status", "PROCESSING");
+        response.put("messageId", requestId);
+        response.put("status", AsyncJobStatus.PENDING.name());
         response.put("statusCheckUrl", "/api/v1/hello-world/async/" + requestId);
+        response.put("eventsUrl", "/api/v1/hello-world/async/events?requestIds=" + requestId);
         
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
     }
@@ -131,28 +165,180 @@ public class HelloWorldController {
      * GET /api/v1/hello-world/async/{requestId} : Check the status of an asynchronous Hello World message generation
      *
      * @param requestId The request ID returned by the async endpoint
-     * @return ResponseEntity with the result if available
+     * @param waitMs How long to wait for the job to finish before answering; 0 answers immediately
+     * @return ResponseEntity with the result if available, or the job status otherwise
      */
     @GetMapping("/async/{requestId}")
     @Operation(summary = "Check the status of an asynchronous Hello World message generation")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Result available"),
             @ApiResponse(responseCode = "202", description = "Processing"),
-            @ApiResponse(responseCode = "404", description = "Request ID not found"),
+            @ApiResponse(responseCode = "404", description = "Request ID not found or expired"),
+            @ApiResponse(responseCode = "500", description = "Generation failed")
+    })
+    public CompletableFuture<ResponseEntity<?>> checkAsyncResult(
+            @Parameter(description = "Request ID from async generation", required = true)
+            @PathVariable String requestId,
+            @Parameter(description = "Maximum time to wait for completion, in milliseconds (long poll)")
+            @RequestParam(value = "waitMs", defaultValue = "0") long waitMs) {
+        
+        log.info("REST request to check async Hello World generation with request ID: {}, waiting up to {}ms", requestId, waitMs);
+        return awaitAsyncJob(requestId, waitMs).thenApply(found -> found
+                .<ResponseEntity<?>>map(job -> {
+                    switch (job.getStatus()) {
+                        case DONE:
+                            return ResponseEntity.ok(job.getResult());
+                        case FAILED:
+                            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(job);
+                        default:
+                            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+                    }
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    /**
+     * GET /api/v1/hello-world/{requestId}/status : Get the status of an asynchronous Hello World message generation
+     *
+     * @param requestId The request ID returned by the async endpoint
+     * @param waitMs How long to wait for the job to finish before answering; 0 answers immediately
+     * @return ResponseEntity with the job status
+     */
+    @GetMapping("/{requestId}/status")
+    @Operation(summary = "Get the status of an asynchronous Hello World message generation")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Status available"),
+            @ApiResponse(responseCode = "404", description = "Request ID not found or expired"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<?> checkAsyncResult(
+    public CompletableFuture<ResponseEntity<AsyncJobDto>> getAsyncStatus(
             @Parameter(description = "Request ID from async generation", required = true)
-            @PathVariable String requestId) {
+            @PathVariable String requestId,
+            @Parameter(description = "Maximum time to wait for completion, in milliseconds (long poll)")
+            @RequestParam(value = "waitMs", defaultValue = "0") long waitMs) {
+        
+        log.info("REST request to get status of async Hello World generation with request ID: {}, waiting up to {}ms", requestId, waitMs);
+        return awaitAsyncJob(requestId, waitMs).thenApply(found -> found
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    /**
+     * GET /api/v1/hello-world/async/events : Stream the completion of several asynchronous generations
+     *
+     * @param requestIds The request IDs returned by the async endpoint
+     * @param timeoutMs How long to keep the stream open
+     * @return Server-Sent Events stream with one event per request ID, closed once every job has finished
+     */
+    @GetMapping(value = "/async/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream the completion of asynchronous Hello World message generations")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "400", description = "No request IDs or too many request IDs"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public SseEmitter streamAsyncCompletions(
+            @Parameter(description = "Request IDs from async generation", required = true)
+            @RequestParam("requestIds") List<String> requestIds,
+            @Parameter(description = "Maximum time to keep the stream open, in milliseconds")
+            @RequestParam(value = "timeoutMs", defaultValue = "30000") long timeoutMs) {
         
-        log.info("REST request to check async Hello World generation with request ID: {}", requestId);
-        return aggregatorService.checkAsyncResult(requestId)
-                .map(result -> ResponseEntity.ok().body(result))
-                .orElseGet(() -> {
-                    Map<String, String> response = new HashMap<>();
-                    response.put("requestId", requestId);
-                    response.put("status", "PROCESSING");
-                    return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
-                });
+        log.info("REST request to stream completion of {} async Hello World generations", requestIds.size());
+        Set<String> distinctIds = new LinkedHashSet<>(requestIds);
+        if (distinctIds.isEmpty() || distinctIds.size() > MAX_STREAMED_REQUEST_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Between 1 and " + MAX_STREAMED_REQUEST_IDS + " request IDs are required");
+        }
+        
+        SseEmitter emitter = new SseEmitter(Math.min(timeoutMs, MAX_WAIT_MS));
+        AtomicInteger remaining = new AtomicInteger(distinctIds.size());
+        for (String requestId : distinctIds) {
+            Optional<CompletableFuture<AsyncJobDto>> completion = aggregatorService.awaitAsyncJob(requestId);
+            if (completion.isPresent()) {
+                completion.get().whenComplete((job, e) -> sendCompletion(emitter, remaining, requestId, job));
+            } else {
+                sendCompletion(emitter, remaining, requestId, null);
+            }
+        }
+        
+        return emitter;
+    }
+
+    /**
+     * Get an async job, waiting up to the given time for it to finish.
+     * Waiting holds no thread: the request is completed from the job's completion or from the timeout.
+     *
+     * @param requestId The request ID
+     * @param waitMs The maximum time to wait, capped at {@link #MAX_WAIT_MS}
+     * @return Future with the finished job, or its latest state if it did not finish in time
+     */
+    private CompletableFuture<Optional<AsyncJobDto>> awaitAsyncJob(String requestId, long waitMs) {
+        long wait = Math.min(waitMs, MAX_WAIT_MS);
+        if (wait <= 0) {
+            return CompletableFuture.completedFuture(aggregatorService.getAsyncJob(requestId));
+        }
+        
+        return aggregatorService.awaitAsyncJob(requestId)
+                .map(completion -> completion
+                        .orTimeout(wait, TimeUnit.MILLISECONDS)
+                        .thenApply(Optional::of)
+                        .exceptionally(e -> aggregatorService.getAsyncJob(requestId)))
+                .orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()));
+    }
+
+    /**
+     * Send the completion event of one job, and close the stream once every job has been reported.
+     *
+     * @param emitter The event stream
+     * @param remaining The number of jobs not yet reported
+     * @param requestId The request ID of the job
+     * @param job The finished job, or null if it does not exist or expired
+     */
+    private void sendCompletion(SseEmitter emitter, AtomicInteger remaining, String requestId, AsyncJobDto job) {
+        try {
+            if (job != null) {
+                emitter.send(SseEmitter.event().id(requestId).name("job").data(job));
+            } else {
+                emitter.send(SseEmitter.event().id(requestId).name("not-found").data(Map.of("requestId", requestId)));
+            }
+            if (remaining.decrementAndGet() == 0) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the stream timed out
+            log.debug("Could not send completion of async job {}: {}", requestId, e.getMessage());
+        }
+    }
+
+    /**
+     * Reject a request with 429 and tell the client when to retry.
+     *
+     * @param e The exception
+     * @return ResponseEntity with status 429 and a Retry-After header
+     */
+    @ExceptionHandler(TooManyAsyncRequestsException.class)
+    public ResponseEntity<Map<String, String>> handleTooManyAsyncRequests(TooManyAsyncRequestsException e) {
+        log.warn("Rejecting async request: {}", e.getMessage());
+        Map<String, String> response = new HashMap<>();
+        response.put("status", "REJECTED");
+        response.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    /**
+     * Answer 503 when neither downstream service produced its part of a message.
+     *
+     * @param e The exception
+     * @return ResponseEntity with status 503
+     */
+    @ExceptionHandler(DownstreamUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleDownstreamUnavailable(DownstreamUnavailableException e) {
+        log.warn("Hello World message unavailable: {}", e.getMessage());
+        Map<String, String> response = new HashMap<>();
+        response.put("status", "UNAVAILABLE");
+        response.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
 }
@@ -0,0 +1,32 @@
+package com.overengineered.aggregator.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.overengineered.aggregator.model.AsyncJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the state of an asynchronous Hello World generation.
+ * The result is only set once the job is DONE, and the error only once it has FAILED.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AsyncJobDto {
+
+    private String requestId;
+    
+    // Same as the request ID; the message can be fetched with GET /{messageId} once the job is DONE
+    private String messageId;
+    private AsyncJobStatus status;
+    private HelloWorldResponseDto result;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -1,6 +1,7 @@
 package com.overengineered.aggregator.event;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overengineered.aggregator.config.AsyncConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -31,7 +32,7 @@ public class HelloWorldEventListener {
      * @param event The HelloWorldGeneratedEvent
      */
     @EventListener
-    @Async
+    @Async(AsyncConfig.HELLO_WORLD_EVENT_EXECUTOR)
     public void handleHelloWorldGeneratedEvent(HelloWorldGeneratedEvent event) {
         log.info("Hello World event received at {}: {}",
                 formatter.format(Instant.ofEpochMilli(event.getTimestamp())),
@@ -0,0 +1,12 @@
+package com.overengineered.aggregator.exception;
+
+/**
+ * Exception thrown when neither the Hello nor the World service produced its part of a message,
+ * so that the retry and circuit breaker around the aggregation can react.
+ */
+public class DownstreamUnavailableException extends RuntimeException {
+
+    public DownstreamUnavailableException(String message) {
+        super(message);
+    }
+}
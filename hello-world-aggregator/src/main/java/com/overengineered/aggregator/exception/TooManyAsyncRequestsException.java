@@ -0,0 +1,17 @@
+package com.overengineered.aggregator.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when an asynchronous request cannot be accepted because the aggregator is at capacity.
+ */
+@Getter
+public class TooManyAsyncRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyAsyncRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
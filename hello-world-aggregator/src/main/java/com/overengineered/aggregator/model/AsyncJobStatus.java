@@ -0,0 +1,20 @@
+package com.overengineered.aggregator.model;
+
+/**
+ * The AsyncJobStatus enum represents the lifecycle of an asynchronous Hello World generation.
+ */
+public enum AsyncJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED;
+
+    /**
+     * Check whether the job has finished, successfully or not.
+     *
+     * @return true if the status is DONE or FAILED
+     */
+    public boolean isTerminal() {
+        return this == DONE || this == FAILED;
+    }
+}
@@ -0,0 +1,121 @@
+package com.overengineered.aggregator.service;
+
+import com.overengineered.aggregator.config.AsyncGenerationProperties;
+import com.overengineered.aggregator.exception.TooManyAsyncRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs asynchronous Hello World generations on a dedicated worker pool sized from {@code aggregator.async.*}.
+ * Generations wait in a bounded {@link FairPriorityTaskQueue}, so higher priorities go first and clients
+ * take turns within a priority. When both the workers and the queue are full, submissions are rejected
+ * with a Retry-After estimated from the current backlog.
+ */
+@Component
+@Slf4j
+public class AsyncGenerationEngine {
+
+    private final AsyncGenerationProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTime;
+    private final Timer serviceTime;
+    private final Counter rejected;
+
+    public AsyncGenerationEngine(AsyncGenerationProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        log.info("Configuring async generation engine with core pool size {}, max pool size {} and queue capacity {}",
+                properties.getCorePoolSize(), properties.getMaxPoolSize(), properties.getQueueCapacity());
+
+        this.executor = new ThreadPoolExecutor(
+                properties.getCorePoolSize(),
+                properties.getMaxPoolSize(),
+                properties.getKeepAliveSeconds(), TimeUnit.SECONDS,
+                new FairPriorityTaskQueue(properties.getQueueCapacity()),
+                new CustomizableThreadFactory(properties.getThreadNamePrefix()),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.waitTime = Timer.builder("async.generation.wait")
+                .description("Time asynchronous generations spend in the queue")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.serviceTime = Timer.builder("async.generation.service")
+                .description("Time taken to run asynchronous generations")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("async.generation.rejected")
+                .description("Number of asynchronous generations rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("async.generation.queue.depth", executor, e -> e.getQueue().size())
+                .description("Number of asynchronous generations waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("async.generation.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of workers currently running a generation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a generation.
+     *
+     * @param requestId The request ID of the job
+     * @param clientId The client the generation is scheduled for
+     * @param priority The requested priority; higher runs first
+     * @param work The generation to run
+     * @throws TooManyAsyncRequestsException if the workers and the queue are full
+     */
+    public void submit(String requestId, String clientId, int priority, Runnable work) {
+        int clamped = Math.max(0, Math.min(priority, properties.getMaxPriority()));
+        long enqueuedAt = System.nanoTime();
+        AsyncGenerationTask task = new AsyncGenerationTask(requestId, clientId, clamped,
+                () -> run(requestId, enqueuedAt, work));
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new TooManyAsyncRequestsException("Async generation queue is full", retryAfterSeconds());
+        }
+        log.debug("Queued async generation {} for client {} with priority {}", requestId, clientId, clamped);
+    }
+
+    /**
+     * Estimate when a rejected client should retry: the time for the workers to drain the current queue,
+     * based on the mean service time.
+     *
+     * @return The Retry-After value, in seconds
+     */
+    private long retryAfterSeconds() {
+        double meanMillis = serviceTime.mean(TimeUnit.MILLISECONDS);
+        double drainMillis = executor.getQueue().size() * meanMillis / Math.max(1, executor.getMaximumPoolSize());
+        long seconds = (long) Math.ceil(drainMillis / 1000.0);
+        return Math.max(1L, Math.min(seconds, properties.getMaxRetryAfterSeconds()));
+    }
+
+    private void run(String requestId, long enqueuedAt, Runnable work) {
+        long start = System.nanoTime();
+        waitTime.record(start - enqueuedAt, TimeUnit.NANOSECONDS);
+        try {
+            work.run();
+        } catch (Exception e) {
+            log.error("Async generation {} failed", requestId, e);
+        } finally {
+            serviceTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        log.info("Shutting down async generation engine with {} queued generations", executor.getQueue().size());
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
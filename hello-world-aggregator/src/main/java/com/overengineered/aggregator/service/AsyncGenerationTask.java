@@ -0,0 +1,27 @@
+package com.overengineered.aggregator.service;
+
+import lombok.Getter;
+
+/**
+ * A queued asynchronous Hello World generation, with the client and priority used to schedule it.
+ */
+@Getter
+class AsyncGenerationTask implements Runnable {
+
+    private final String requestId;
+    private final String clientId;
+    private final int priority;
+    private final Runnable work;
+
+    AsyncGenerationTask(String requestId, String clientId, int priority, Runnable work) {
+        this.requestId = requestId;
+        this.clientId = clientId;
+        this.priority = priority;
+        this.work = work;
+    }
+
+    @Override
+    public void run() {
+        work.run();
+    }
+}
@@ -0,0 +1,386 @@
+package com.overengineered.aggregator.service;
+
+import com.overengineered.aggregator.config.AsyncJobStoreProperties;
+import com.overengineered.aggregator.dto.AsyncJobDto;
+import com.overengineered.aggregator.dto.HelloWorldResponseDto;
+import com.overengineered.aggregator.exception.TooManyAsyncRequestsException;
+import com.overengineered.aggregator.model.AsyncJobStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded, expiring store for asynchronous Hello World generations.
+ * Every job expires a fixed time after its last status change, whether or not anyone polls it, and the store
+ * never holds more than a configured number of jobs. When full, the oldest finished job is evicted; if every
+ * job is still in progress, new jobs are rejected.
+ * Optionally, status changes are also written to Redis in pipelined batches, so that a status check that lands
+ * on another instance can still be answered.
+ * Callers can wait for a job to finish without holding a thread: waiters on the same job share one future,
+ * completed when the job is DONE or FAILED. Waiters for jobs running on another instance are resolved by polling
+ * Redis for all of them in one round trip.
+ */
+@Component
+@Slf4j
+public class AsyncJobStore {
+
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private final AsyncJobStoreProperties properties;
+    private final RedisTemplate<String, AsyncJobDto> asyncJobRedisTemplate;
+    private final Duration ttl;
+    private final Map<String, Entry> jobs = new ConcurrentHashMap<>();
+
+    // Latest unflushed state per job; a job that changes twice between flushes is written once
+    private final Map<String, AsyncJobDto> pendingWrites = new ConcurrentHashMap<>();
+
+    // Futures of the unfinished jobs someone is waiting on, and those of them that run on another instance
+    private final Map<String, CompletableFuture<AsyncJobDto>> waiters = new ConcurrentHashMap<>();
+    private final Set<String> remoteWaiters = ConcurrentHashMap.newKeySet();
+
+    private final Counter expired;
+    private final Counter evicted;
+    private final Counter rejected;
+
+    public AsyncJobStore(AsyncJobStoreProperties properties,
+                         RedisTemplate<String, AsyncJobDto> asyncJobRedisTemplate,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.asyncJobRedisTemplate = asyncJobRedisTemplate;
+        this.ttl = Duration.ofSeconds(properties.getTtlSeconds());
+
+        Gauge.builder("async.jobs.size", jobs, Map::size)
+                .description("Number of asynchronous jobs held by this instance")
+                .register(meterRegistry);
+        this.expired = removalCounter(meterRegistry, "expired");
+        this.evicted = removalCounter(meterRegistry, "evicted");
+        this.rejected = removalCounter(meterRegistry, "rejected");
+    }
+
+    /**
+     * Create a new PENDING job.
+     *
+     * @return The new job
+     * @throws TooManyAsyncRequestsException if the store is full of jobs that are still in progress
+     */
+    public synchronized AsyncJobDto create() {
+        if (jobs.size() >= properties.getMaxEntries()) {
+            purgeExpired();
+        }
+        if (jobs.size() >= properties.getMaxEntries() && !evictOldestFinished()) {
+            rejected.increment();
+            throw new TooManyAsyncRequestsException(
+                    "Too many asynchronous requests in progress", RETRY_AFTER_SECONDS);
+        }
+
+        String requestId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        AsyncJobDto job = AsyncJobDto.builder()
+                .requestId(requestId)
+                .messageId(requestId)
+                .status(AsyncJobStatus.PENDING)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        put(job);
+        log.debug("Created async job {}", requestId);
+        return job;
+    }
+
+    /**
+     * Mark a job as RUNNING.
+     *
+     * @param requestId The request ID of the job
+     */
+    public void markRunning(String requestId) {
+        update(requestId, job -> job.status(AsyncJobStatus.RUNNING));
+    }
+
+    /**
+     * Mark a job as DONE and store its result.
+     *
+     * @param requestId The request ID of the job
+     * @param result The generated Hello World message
+     */
+    public void markDone(String requestId, HelloWorldResponseDto result) {
+        update(requestId, job -> job.status(AsyncJobStatus.DONE).result(result));
+    }
+
+    /**
+     * Mark a job as FAILED and store the reason.
+     *
+     * @param requestId The request ID of the job
+     * @param error The reason the job failed
+     */
+    public void markFailed(String requestId, String error) {
+        update(requestId, job -> job.status(AsyncJobStatus.FAILED).error(error));
+    }
+
+    /**
+     * Remove a job that could not be scheduled.
+     *
+     * @param requestId The request ID of the job
+     */
+    public void remove(String requestId) {
+        jobs.remove(requestId);
+        pendingWrites.remove(requestId);
+        abandon(requestId);
+    }
+
+    /**
+     * Find a job by request ID, on this instance first and then in Redis if enabled.
+     *
+     * @param requestId The request ID of the job
+     * @return Optional containing the job if it exists and has not expired
+     */
+    public Optional<AsyncJobDto> find(String requestId) {
+        Entry entry = jobs.get(requestId);
+        if (entry != null && !entry.isExpired(System.currentTimeMillis())) {
+            return Optional.of(entry.job);
+        }
+        if (!properties.isRedisEnabled()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(asyncJobRedisTemplate.opsForValue().get(key(requestId)));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read async job {} from Redis: {}", requestId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Get a future that completes when a job is DONE or FAILED.
+     * The future is already complete if the job has finished. It is cancelled if the job expires first.
+     *
+     * @param requestId The request ID of the job
+     * @return Optional containing the future if the job exists and has not expired
+     */
+    public Optional<CompletableFuture<AsyncJobDto>> completion(String requestId) {
+        Optional<AsyncJobDto> current = find(requestId);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        if (current.get().getStatus().isTerminal()) {
+            return Optional.of(CompletableFuture.completedFuture(current.get()));
+        }
+
+        CompletableFuture<AsyncJobDto> completion = waiters.computeIfAbsent(requestId, id -> new CompletableFuture<>());
+        Entry entry = jobs.get(requestId);
+        if (entry == null) {
+            remoteWaiters.add(requestId);
+        } else if (entry.job.getStatus().isTerminal()) {
+            // The job finished between the lookup and the registration of the waiter
+            complete(entry.job);
+        }
+
+        // Callers get a copy, so cancelling or timing out one waiter does not affect the others
+        return Optional.of(completion.copy());
+    }
+
+    /**
+     * Resolve the waiters for jobs that run on other instances, with one Redis round trip for all of them.
+     */
+    @Scheduled(fixedDelayString = "${aggregator.async.jobs.remote-poll-interval-ms:250}")
+    public void pollRemoteWaiters() {
+        if (!properties.isRedisEnabled() || remoteWaiters.isEmpty()) {
+            return;
+        }
+
+        List<String> requestIds = new ArrayList<>(remoteWaiters);
+        List<String> keys = new ArrayList<>(requestIds.size());
+        requestIds.forEach(requestId -> keys.add(key(requestId)));
+
+        List<AsyncJobDto> states;
+        try {
+            states = asyncJobRedisTemplate.opsForValue().multiGet(keys);
+        } catch (DataAccessException e) {
+            log.warn("Failed to poll {} remote async jobs from Redis: {}", requestIds.size(), e.getMessage());
+            return;
+        }
+        if (states == null) {
+            return;
+        }
+
+        for (int i = 0; i < requestIds.size(); i++) {
+            AsyncJobDto job = states.get(i);
+            if (job == null) {
+                abandon(requestIds.get(i));
+            } else if (job.getStatus().isTerminal()) {
+                complete(job);
+            }
+        }
+    }
+
+    /**
+     * Remove the jobs whose TTL has passed.
+     */
+    @Scheduled(fixedDelayString = "${aggregator.async.jobs.purge-interval-ms:30000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        for (Iterator<Map.Entry<String, Entry>> it = jobs.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Entry> entry = it.next();
+            if (entry.getValue().isExpired(now)) {
+                it.remove();
+                abandon(entry.getKey());
+                removed++;
+            }
+        }
+
+        if (removed > 0) {
+            expired.increment(removed);
+            log.debug("Purged {} expired async jobs", removed);
+        }
+    }
+
+    /**
+     * Write the pending job changes to Redis in a single pipelined round trip.
+     * Changes that could not be written are queued again for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${aggregator.async.jobs.redis-flush-interval-ms:50}")
+    public void flushToRedis() {
+        if (!properties.isRedisEnabled() || pendingWrites.isEmpty()) {
+            return;
+        }
+
+        List<AsyncJobDto> batch = new ArrayList<>(pendingWrites.size());
+        for (String requestId : pendingWrites.keySet()) {
+            AsyncJobDto job = pendingWrites.remove(requestId);
+            if (job != null) {
+                batch.add(job);
+            }
+        }
+
+        try {
+            asyncJobRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, AsyncJobDto> redis = (RedisOperations<String, AsyncJobDto>) operations;
+                    for (AsyncJobDto job : batch) {
+                        redis.opsForValue().set(key(job.getRequestId()), job, ttl);
+                    }
+                    return null;
+                }
+            });
+            log.debug("Flushed {} async jobs to Redis", batch.size());
+        } catch (DataAccessException e) {
+            log.warn("Failed to flush {} async jobs to Redis, retrying: {}", batch.size(), e.getMessage());
+            // Retry on the next flush, unless the job changed again or was removed meanwhile
+            for (AsyncJobDto job : batch) {
+                if (jobs.containsKey(job.getRequestId())) {
+                    pendingWrites.putIfAbsent(job.getRequestId(), job);
+                }
+            }
+        }
+    }
+
+    private void update(String requestId, UnaryOperator<AsyncJobDto.AsyncJobDtoBuilder> change) {
+        Entry entry = jobs.get(requestId);
+        if (entry == null) {
+            log.warn("Async job {} expired or was evicted before it finished", requestId);
+            return;
+        }
+        put(change.apply(entry.job.toBuilder()).updatedAt(LocalDateTime.now()).build());
+    }
+
+    private void put(AsyncJobDto job) {
+        jobs.put(job.getRequestId(), new Entry(job, System.currentTimeMillis() + ttl.toMillis()));
+        if (properties.isRedisEnabled()) {
+            pendingWrites.put(job.getRequestId(), job);
+        }
+        if (job.getStatus().isTerminal()) {
+            complete(job);
+        }
+    }
+
+    private void complete(AsyncJobDto job) {
+        remoteWaiters.remove(job.getRequestId());
+        CompletableFuture<AsyncJobDto> completion = waiters.remove(job.getRequestId());
+        if (completion != null) {
+            completion.complete(job);
+        }
+    }
+
+    private void abandon(String requestId) {
+        remoteWaiters.remove(requestId);
+        CompletableFuture<AsyncJobDto> completion = waiters.remove(requestId);
+        if (completion != null) {
+            completion.cancel(false);
+        }
+    }
+
+    /**
+     * Evict the finished job that changed least recently. This scans the store, but only runs when it is full.
+     *
+     * @return true if a job was evicted
+     */
+    private boolean evictOldestFinished() {
+        String oldest = null;
+        long oldestExpiry = Long.MAX_VALUE;
+        for (Map.Entry<String, Entry> candidate : jobs.entrySet()) {
+            Entry entry = candidate.getValue();
+            if (entry.job.getStatus().isTerminal() && entry.expiresAt < oldestExpiry) {
+                oldest = candidate.getKey();
+                oldestExpiry = entry.expiresAt;
+            }
+        }
+
+        if (oldest == null) {
+            return false;
+        }
+        jobs.remove(oldest);
+        evicted.increment();
+        return true;
+    }
+
+    private String key(String requestId) {
+        return properties.getRedisKeyPrefix() + requestId;
+    }
+
+    private static Counter removalCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("async.jobs.removed")
+                .description("Number of asynchronous jobs removed or refused by the store")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A job and the time at which it expires.
+     */
+    private static final class Entry {
+        private final AsyncJobDto job;
+        private final long expiresAt;
+
+        private Entry(AsyncJobDto job, long expiresAt) {
+            this.job = job;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.overengineered.aggregator.service;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded work queue for {@link AsyncGenerationEngine}.
+ * Tasks with a higher priority are always taken first. Within a priority, clients take turns: each take serves
+ * the client that has waited longest for a turn, so one client submitting a burst cannot starve the others.
+ * Within a client, tasks run in submission order.
+ * Only {@link AsyncGenerationTask} instances are accepted.
+ */
+class FairPriorityTaskQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    // Priority (highest first) -> client ID (next turn first) -> tasks in submission order
+    private final TreeMap<Integer, LinkedHashMap<String, ArrayDeque<AsyncGenerationTask>>> lanes =
+            new TreeMap<>(Comparator.reverseOrder());
+    private int count;
+
+    FairPriorityTaskQueue(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public boolean offer(Runnable runnable) {
+        AsyncGenerationTask task = (AsyncGenerationTask) runnable;
+        lock.lock();
+        try {
+            if (count >= capacity) {
+                return false;
+            }
+            lanes.computeIfAbsent(task.getPriority(), priority -> new LinkedHashMap<>())
+                    .computeIfAbsent(task.getClientId(), clientId -> new ArrayDeque<>())
+                    .addLast(task);
+            count++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Runnable runnable) throws InterruptedException {
+        // Never blocks: the executor only uses offer, and a full queue must be reported to the caller
+        if (!offer(runnable)) {
+            throw new IllegalStateException("Queue full");
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable runnable, long timeout, TimeUnit unit) {
+        return offer(runnable);
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return count > 0 ? dequeue() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            if (count == 0) {
+                return null;
+            }
+            return lanes.firstEntry().getValue().values().iterator().next().peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof AsyncGenerationTask)) {
+            return false;
+        }
+        AsyncGenerationTask task = (AsyncGenerationTask) o;
+        lock.lock();
+        try {
+            Map<String, ArrayDeque<AsyncGenerationTask>> clients = lanes.get(task.getPriority());
+            ArrayDeque<AsyncGenerationTask> tasks = clients != null ? clients.get(task.getClientId()) : null;
+            if (tasks == null || !tasks.remove(task)) {
+                return false;
+            }
+            if (tasks.isEmpty()) {
+                clients.remove(task.getClientId());
+                if (clients.isEmpty()) {
+                    lanes.remove(task.getPriority());
+                }
+            }
+            count--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        lock.lock();
+        try {
+            int drained = 0;
+            while (count > 0 && drained < maxElements) {
+                c.add(dequeue());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Iterate over a snapshot of the queued tasks, in no particular order.
+     *
+     * @return An iterator over the snapshot
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        lock.lock();
+        try {
+            List<Runnable> snapshot = new ArrayList<>(count);
+            lanes.values().forEach(clients -> clients.values().forEach(snapshot::addAll));
+            return snapshot.iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take the next task of the client whose turn it is at the highest priority, then move that client to the
+     * back of the line. Must be called with the lock held and a non-empty queue.
+     *
+     * @return The next task
+     */
+    private AsyncGenerationTask dequeue() {
+        Map.Entry<Integer, LinkedHashMap<String, ArrayDeque<AsyncGenerationTask>>> lane = lanes.firstEntry();
+        LinkedHashMap<String, ArrayDeque<AsyncGenerationTask>> clients = lane.getValue();
+        Map.Entry<String, ArrayDeque<AsyncGenerationTask>> next = clients.entrySet().iterator().next();
+
+        ArrayDeque<AsyncGenerationTask> tasks = clients.remove(next.getKey());
+        AsyncGenerationTask task = tasks.pollFirst();
+        if (!tasks.isEmpty()) {
+            clients.put(next.getKey(), tasks);
+        } else if (clients.isEmpty()) {
+            lanes.remove(lane.getKey());
+        }
+        count--;
+        return task;
+    }
+}
@@ -1,10 +1,12 @@
 package com.overengineered.aggregator.service;
 
+import com.overengineered.aggregator.dto.AsyncJobDto;
 import com.overengineered.aggregator.dto.HelloWorldRequestDto;
 import com.overengineered.aggregator.dto.HelloWorldResponseDto;
 import com.overengineered.aggregator.model.HelloWorldMessage;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service interface for aggregating Hello and World services to create a Hello World message.
@@ -40,9 +42,22 @@ public interface HelloWorldAggregatorService {
      *
      * @param request The request containing all parameters for customization
      * @return The request ID that can be used to retrieve the result later
+     * @throws com.overengineered.aggregator.exception.TooManyAsyncRequestsException if the request cannot be accepted
      */
     String generateHelloWorldAsync(HelloWorldRequestDto request);
     
+    /**
+     * Generate a Hello World message asynchronously on behalf of a client.
+     * Higher priorities are generated first, and clients take turns within a priority.
+     *
+     * @param request The request containing all parameters for customization
+     * @param clientId The ID of the client, used for fair scheduling
+     * @param priority The priority of the request; higher runs first
+     * @return The request ID that can be used to retrieve the result later
+     * @throws com.overengineered.aggregator.exception.TooManyAsyncRequestsException if the request cannot be accepted
+     */
+    String generateHelloWorldAsync(HelloWorldRequestDto request, String clientId, int priority);
+    
     /**
      * Check the status of an asynchronous Hello World message generation.
      *
@@ -50,4 +65,22 @@ public interface HelloWorldAggregatorService {
      * @return Optional containing the message if generation is complete
      */
     Optional<HelloWorldResponseDto> checkAsyncResult(String requestId);
+    
+    /**
+     * Get the status of an asynchronous Hello World message generation.
+     * Jobs expire a while after they finish, whether or not their result has been retrieved.
+     *
+     * @param requestId The request ID returned by generateHelloWorldAsync
+     * @return Optional containing the job if it exists and has not expired
+     */
+    Optional<AsyncJobDto> getAsyncJob(String requestId);
+    
+    /**
+     * Wait for an asynchronous Hello World message generation to finish, without holding a thread.
+     *
+     * @param requestId The request ID returned by generateHelloWorldAsync
+     * @return Optional containing a future that completes with the job once it is DONE or FAILED,
+     *         and is cancelled if the job expires first; empty if the job does not exist
+     */
+    Optional<CompletableFuture<AsyncJobDto>> awaitAsyncJob(String requestId);
 }
@@ -1,103 +1,110 @@
 package com.overengineered.aggregator.service;
 
-import com.overengineered.aggregator.client.HelloServiceClient;
-import com.overengineered.aggregator.client.WorldServiceClient;
+import com.overengineered.aggregator.client.HelloServiceClientFallback;
+import com.overengineered.aggregator.client.WorldServiceClientFallback;
+import com.overengineered.aggregator.config.AsyncConfig;
+import com.overengineered.aggregator.config.ClientExecutorProperties;
+import com.overengineered.aggregator.dto.AsyncJobDto;
 import com.overengineered.aggregator.dto.HelloWorldRequestDto;
 import com.overengineered.aggregator.dto.HelloWorldResponseDto;
 import com.overengineered.aggregator.event.HelloWorldGeneratedEvent;
+import com.overengineered.aggregator.exception.DownstreamUnavailableException;
+import com.overengineered.aggregator.exception.TooManyAsyncRequestsException;
+import com.overengineered.aggregator.model.AsyncJobStatus;
 import com.overengineered.aggregator.model.HelloWorldMessage;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * Implementation of the HelloWorldAggregatorService interface.
  * This class coordinates calls to the Hello and World services to create a complete Hello World message.
+ * Both services are called concurrently under one shared deadline; a call that fails or misses the
+ * deadline is replaced by its own client fallback, without discarding the result of the other call.
+ * Only when both calls fall back does the generation fail, so that it is retried and counted by the circuit breaker.
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class HelloWorldAggregatorServiceImpl implements HelloWorldAggregatorService {
 
-    private final HelloServiceClient helloServiceClient;
-    private final WorldServiceClient worldServiceClient;
+    private static final String ANONYMOUS_CLIENT = "anonymous";
+
+    private final HelloWorldFragmentService helloWorldFragmentService;
+    private final HelloServiceClientFallback helloServiceClientFallback;
+    private final WorldServiceClientFallback worldServiceClientFallback;
+    private final ThreadPoolTaskExecutor downstreamClientExecutor;
+    private final long deadlineMs;
     private final ApplicationEventPublisher eventPublisher;
     private final RedisTemplate<String, HelloWorldResponseDto> redisTemplate;
-    
-    // In-memory cache for async results (in a real app, this would use Redis or another distributed cache)
-    private final Map<String, CompletableFuture<HelloWorldResponseDto>> asyncResults = new ConcurrentHashMap<>();
+    private final AsyncJobStore asyncJobStore;
+    private final AsyncGenerationEngine asyncGenerationEngine;
+
+    public HelloWorldAggregatorServiceImpl(HelloWorldFragmentService helloWorldFragmentService,
+                                           HelloServiceClientFallback helloServiceClientFallback,
+                                           WorldServiceClientFallback worldServiceClientFallback,
+                                           @Qualifier(AsyncConfig.DOWNSTREAM_CLIENT_EXECUTOR) ThreadPoolTaskExecutor downstreamClientExecutor,
+                                           ClientExecutorProperties clientExecutorProperties,
+                                           ApplicationEventPublisher eventPublisher,
+                                           RedisTemplate<String, HelloWorldResponseDto> redisTemplate,
+                                           AsyncJobStore asyncJobStore,
+                                           AsyncGenerationEngine asyncGenerationEngine) {
+        this.helloWorldFragmentService = helloWorldFragmentService;
+        this.helloServiceClientFallback = helloServiceClientFallback;
+        this.worldServiceClientFallback = worldServiceClientFallback;
+        this.downstreamClientExecutor = downstreamClientExecutor;
+        this.deadlineMs = clientExecutorProperties.getDeadlineMs();
+        this.eventPublisher = eventPublisher;
+        this.redisTemplate = redisTemplate;
+        this.asyncJobStore = asyncJobStore;
+        this.asyncGenerationEngine = asyncGenerationEngine;
+    }
 
     @Override
-    @Cacheable(value = "helloWorldMessages", key = "#request.language + '-' + #request.formalityLevel + '-' + #request.planetType + '-' + #request.scope")
     @CircuitBreaker(name = "aggregatorService", fallbackMethod = "fallbackGenerateHelloWorld")
     @Retry(name = "aggregatorService")
     public HelloWorldResponseDto generateHelloWorld(HelloWorldRequestDto request) {
         log.info("Generating Hello World message with request: {}", request);
         long startTime = System.currentTimeMillis();
+        long deadline = startTime + deadlineMs;
         
-        // Call the Hello service
-        String hello = fetchHello(request);
+        // Call the Hello and World services concurrently
+        Future<HelloWorldPart> helloFuture = downstreamClientExecutor.submit(() -> HelloWorldPart.of(
+                fetchHello(request), HelloServiceClientFallback.FALLBACK_HELLO));
+        Future<HelloWorldPart> worldFuture = downstreamClientExecutor.submit(() -> HelloWorldPart.of(
+                fetchWorld(request), WorldServiceClientFallback.FALLBACK_WORLD));
         
-        // Call the World service
-        String world = fetchWorld(request);
-        
-        // Apply delimiter
-        String delimiter = request.getDelimiter() != null ? request.getDelimiter() : " ";
-        
-        // Apply transformations if needed
-        if (Boolean.TRUE.equals(request.getUppercase())) {
-            hello = hello.toUpperCase();
-            world = world.toUpperCase();
+        // Wait for both under the shared deadline, falling back per call
+        HelloWorldPart helloPart = await("hello", helloFuture, deadline, () -> helloServiceClientFallback.generateHello(
+                request.getLanguage(), request.getFormalityLevel()));
+        HelloWorldPart worldPart = await("world", worldFuture, deadline, () -> worldServiceClientFallback.generateWorld(
+                request.getLanguage(), request.getPlanetType().toString(), request.getScope().toString()));
+        if (helloPart.isFallback() && worldPart.isFallback()) {
+            throw new DownstreamUnavailableException("Neither the Hello nor the World service produced a part");
         }
         
-        if (Boolean.TRUE.equals(request.getReversed())) {
-            hello = new StringBuilder(hello).reverse().toString();
-            world = new StringBuilder(world).reverse().toString();
-        }
-        
-        // Generate the combined message
-        String message = hello + delimiter + world;
-        
-        long endTime = System.currentTimeMillis();
-        long generationTime = endTime - startTime;
-        
         // Create and populate the response DTO
-        HelloWorldResponseDto response = HelloWorldResponseDto.builder()
-                .id(UUID.randomUUID().toString())
-                .message(message)
-                .helloText(hello)
-                .worldText(world)
-                .language(request.getLanguage())
-                .formalityLevel(request.getFormalityLevel())
-                .planetType(request.getPlanetType())
-                .scope(request.getScope())
-                .delimiter(delimiter)
-                .generatedAt(LocalDateTime.now())
-                .generationTimeMillis(generationTime)
-                .requestId(UUID.randomUUID().toString())
-                .helloStrategy("REMOTE")
-                .worldStrategy("REMOTE")
-                .isFromCache(false)
-                .source("AGGREGATOR_SERVICE")
-                .build();
+        HelloWorldResponseDto response = HelloWorldResponseAssembler.assemble(request, helloPart, worldPart, startTime);
         
         // Publish event
         eventPublisher.publishEvent(new HelloWorldGeneratedEvent(this, response));
         
-        log.info("Generated Hello World message in {}ms: {}", generationTime, response.getMessage());
+        log.info("Generated Hello World message in {}ms: {}", response.getGenerationTimeMillis(), response.getMessage());
         return response;
     }
 
@@ -105,7 +112,12 @@ public class HelloWorldAggregatorServiceImpl implements HelloWorldAggregatorServ
     public Optional<HelloWorldResponseDto> getHelloWorldById(String id) {
         log.info("Retrieving Hello World message with ID: {}", id);
         HelloWorldResponseDto response = redisTemplate.opsForValue().get("helloWorld:" + id);
-        return Optional.ofNullable(response);
+        if (response != null) {
+            return Optional.of(response);
+        }
+        
+        // Messages generated asynchronously are addressed by their request ID
+        return asyncJobStore.find(id).flatMap(this::resultOf);
     }
 
     @Override
@@ -116,71 +128,108 @@ public class HelloWorldAggregatorServiceImpl implements HelloWorldAggregatorServ
 
     @Override
     public String generateHelloWorldAsync(HelloWorldRequestDto request) {
-        log.info("Starting asynchronous generation of Hello World message with request: {}", request);
-        String requestId = UUID.randomUUID().toString();
+        return generateHelloWorldAsync(request, ANONYMOUS_CLIENT, 0);
+    }
+
+    @Override
+    public String generateHelloWorldAsync(HelloWorldRequestDto request, String clientId, int priority) {
+        log.info("Starting asynchronous generation of Hello World message for client {} with request: {}", clientId, request);
+        String requestId = asyncJobStore.create().getRequestId();
         
-        CompletableFuture<HelloWorldResponseDto> future = CompletableFuture.supplyAsync(() -> 
-            generateHelloWorld(request)
-        );
+        try {
+            asyncGenerationEngine.submit(requestId, clientId, priority, () -> {
+                asyncJobStore.markRunning(requestId);
+                try {
+                    asyncJobStore.markDone(requestId, generateHelloWorld(request));
+                } catch (Exception e) {
+                    log.error("Async generation failed for request ID: {}", requestId, e);
+                    asyncJobStore.markFailed(requestId, e.getMessage());
+                }
+            });
+        } catch (TooManyAsyncRequestsException e) {
+            asyncJobStore.remove(requestId);
+            throw e;
+        }
         
-        asyncResults.put(requestId, future);
         log.debug("Created async task with request ID: {}", requestId);
-        
         return requestId;
     }
 
     @Override
     public Optional<HelloWorldResponseDto> checkAsyncResult(String requestId) {
         log.info("Checking async result for request ID: {}", requestId);
-        CompletableFuture<HelloWorldResponseDto> future = asyncResults.get(requestId);
-        
-        if (future == null) {
-            log.warn("No async task found for request ID: {}", requestId);
-            return Optional.empty();
-        }
-        
-        if (!future.isDone()) {
-            log.debug("Async task is not yet complete for request ID: {}", requestId);
-            return Optional.empty();
-        }
-        
-        try {
-            HelloWorldResponseDto result = future.get();
-            // Remove from the map once retrieved
-            asyncResults.remove(requestId);
-            return Optional.of(result);
-        } catch (Exception e) {
-            log.error("Error retrieving async result for request ID: {}", requestId, e);
-            asyncResults.remove(requestId);
-            return Optional.empty();
-        }
+        return getAsyncJob(requestId).flatMap(this::resultOf);
+    }
+
+    @Override
+    public Optional<AsyncJobDto> getAsyncJob(String requestId) {
+        log.info("Retrieving async job with request ID: {}", requestId);
+        return asyncJobStore.find(requestId);
+    }
+
+    @Override
+    public Optional<CompletableFuture<AsyncJobDto>> awaitAsyncJob(String requestId) {
+        log.debug("Waiting for async job with request ID: {}", requestId);
+        return asyncJobStore.completion(requestId);
     }
     
     /**
-     * Fetch the hello part from the Hello service.
+     * Get the result of an async job, if it has completed successfully.
+     *
+     * @param job The async job
+     * @return Optional containing the generated message if the job is DONE
+     */
+    private Optional<HelloWorldResponseDto> resultOf(AsyncJobDto job) {
+        return job.getStatus() == AsyncJobStatus.DONE ? Optional.ofNullable(job.getResult()) : Optional.empty();
+    }
+    
+    /**
+     * Fetch the hello part, from the fragment cache or the Hello service.
      *
      * @param request The request containing language and formality level
      * @return The hello greeting text
      */
     private String fetchHello(HelloWorldRequestDto request) {
-        log.debug("Fetching hello part for language: {} and formality level: {}", 
-                request.getLanguage(), request.getFormalityLevel());
-        return helloServiceClient.generateHello(request.getLanguage(), request.getFormalityLevel());
+        return helloWorldFragmentService.fetchHello(request.getLanguage(), request.getFormalityLevel());
     }
     
     /**
-     * Fetch the world part from the World service.
+     * Fetch the world part, from the fragment cache or the World service.
      *
      * @param request The request containing language, planet type, and scope
      * @return The world text
      */
     private String fetchWorld(HelloWorldRequestDto request) {
-        log.debug("Fetching world part for language: {}, planet type: {}, and scope: {}", 
-                request.getLanguage(), request.getPlanetType(), request.getScope());
-        return worldServiceClient.generateWorld(
-                request.getLanguage(), 
-                request.getPlanetType().toString(), 
-                request.getScope().toString());
+        return helloWorldFragmentService.fetchWorld(request.getLanguage(), request.getPlanetType(), request.getScope());
+    }
+    
+    /**
+     * Wait for a downstream call until the shared deadline.
+     * If the call fails or the deadline passes, its fallback is used instead. A call that missed the deadline
+     * is cancelled: a queued call never starts, and a running call is interrupted, although a blocking socket
+     * read only ends at the Feign read timeout, which is therefore kept below the deadline.
+     *
+     * @param name The name of the part, for logging
+     * @param future The pending downstream call
+     * @param deadline The shared deadline, in epoch milliseconds
+     * @param fallback The fallback to use if the call does not succeed in time
+     * @return The part returned by the call, or the fallback part
+     */
+    private HelloWorldPart await(String name, Future<HelloWorldPart> future, long deadline, Supplier<String> fallback) {
+        long remaining = Math.max(0L, deadline - System.currentTimeMillis());
+        try {
+            return future.get(remaining, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("The {} call missed the {}ms deadline, abandoning it and using its fallback", name, deadlineMs);
+        } catch (ExecutionException e) {
+            log.warn("The {} call failed, using its fallback: {}", name, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            log.warn("Interrupted while waiting for the {} call, using its fallback", name);
+        }
+        return HelloWorldPart.fallback(fallback.get());
     }
     
     /**
@@ -208,8 +257,8 @@ public class HelloWorldAggregatorServiceImpl implements HelloWorldAggregatorServ
                 .generatedAt(LocalDateTime.now())
                 .generationTimeMillis(0L)
                 .requestId(UUID.randomUUID().toString())
-                .helloStrategy("FALLBACK")
-                .worldStrategy("FALLBACK")
+                .helloStrategy(HelloWorldPart.FALLBACK_STRATEGY)
+                .worldStrategy(HelloWorldPart.FALLBACK_STRATEGY)
                 .isFromCache(false)
                 .source("FALLBACK")
                 .build();
@@ -0,0 +1,83 @@
+package com.overengineered.aggregator.service;
+
+import com.overengineered.aggregator.client.HelloServiceClient;
+import com.overengineered.aggregator.client.WorldServiceClient;
+import com.overengineered.aggregator.config.CacheConfig;
+import com.overengineered.aggregator.config.PackedCacheKey;
+import com.overengineered.aggregator.config.PackedCacheKeyGenerator;
+import com.overengineered.aggregator.model.GeographicalScope;
+import com.overengineered.aggregator.model.PlanetType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Fetches the hello and world fragments of a message, caching each one under only the parameters it depends on.
+ * Fallback texts are never cached, so a downstream outage does not outlive the outage itself.
+ * Delimiter, case and ordering are applied per request by {@link HelloWorldResponseAssembler}.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class HelloWorldFragmentService {
+
+    private final HelloServiceClient helloServiceClient;
+    private final WorldServiceClient worldServiceClient;
+
+    /**
+     * Fetch the hello fragment from the Hello service.
+     *
+     * @param language The language code
+     * @param formalityLevel The formality level (1-5)
+     * @return The hello greeting text
+     */
+    @Cacheable(value = CacheConfig.HELLO_FRAGMENTS_CACHE,
+            keyGenerator = PackedCacheKeyGenerator.NAME,
+            unless = "#result == T(com.overengineered.aggregator.client.HelloServiceClientFallback).FALLBACK_HELLO")
+    public String fetchHello(String language, int formalityLevel) {
+        log.debug("Fetching hello fragment for language: {} and formality level: {}", language, formalityLevel);
+        return helloServiceClient.generateHello(language, formalityLevel);
+    }
+
+    /**
+     * Fetch the world fragment from the World service.
+     *
+     * @param language The language code
+     * @param planetType The planet type
+     * @param scope The geographical scope
+     * @return The world text
+     */
+    @Cacheable(value = CacheConfig.WORLD_FRAGMENTS_CACHE,
+            keyGenerator = PackedCacheKeyGenerator.NAME,
+            unless = "#result == T(com.overengineered.aggregator.client.WorldServiceClientFallback).FALLBACK_WORLD")
+    public String fetchWorld(String language, PlanetType planetType, GeographicalScope scope) {
+        log.debug("Fetching world fragment for language: {}, planet type: {}, and scope: {}", language, planetType, scope);
+        return worldServiceClient.generateWorld(language, planetType.toString(), scope.toString());
+    }
+
+    /**
+     * Build the cache key of a hello fragment, as {@link PackedCacheKeyGenerator} does.
+     * Used by the reactive aggregator, which reads the same cache.
+     *
+     * @param language The language code
+     * @param formalityLevel The formality level
+     * @return The cache key
+     */
+    public static Object helloKey(String language, int formalityLevel) {
+        return PackedCacheKey.of(language, formalityLevel, null, null);
+    }
+
+    /**
+     * Build the cache key of a world fragment, as {@link PackedCacheKeyGenerator} does.
+     * Used by the reactive aggregator, which reads the same cache.
+     *
+     * @param language The language code
+     * @param planetType The planet type
+     * @param scope The geographical scope
+     * @return The cache key
+     */
+    public static Object worldKey(String language, PlanetType planetType, GeographicalScope scope) {
+        return PackedCacheKey.of(language, null, planetType, scope);
+    }
+}
@@ -0,0 +1,58 @@
+package com.overengineered.aggregator.service;
+
+/**
+ * The text of one part of a Hello World message and the strategy that produced it.
+ */
+final class HelloWorldPart {
+
+    static final String REMOTE_STRATEGY = "REMOTE";
+    static final String FALLBACK_STRATEGY = "FALLBACK";
+
+    final String text;
+    final String strategy;
+
+    private HelloWorldPart(String text, String strategy) {
+        this.text = text;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Create a part returned by the downstream service.
+     *
+     * @param text The text of the part
+     * @return The part
+     */
+    static HelloWorldPart remote(String text) {
+        return new HelloWorldPart(text, REMOTE_STRATEGY);
+    }
+
+    /**
+     * Create a part from the text returned by a Feign client, recognizing the text of the client fallback.
+     *
+     * @param text The returned text
+     * @param fallbackText The text the client fallback returns
+     * @return The part
+     */
+    static HelloWorldPart of(String text, String fallbackText) {
+        return fallbackText.equals(text) ? fallback(text) : remote(text);
+    }
+
+    /**
+     * Create a part produced by a client fallback.
+     *
+     * @param text The fallback text
+     * @return The part
+     */
+    static HelloWorldPart fallback(String text) {
+        return new HelloWorldPart(text, FALLBACK_STRATEGY);
+    }
+
+    /**
+     * Check whether the part was produced by a fallback rather than the downstream service.
+     *
+     * @return Whether the part is a fallback
+     */
+    boolean isFallback() {
+        return FALLBACK_STRATEGY.equals(strategy);
+    }
+}
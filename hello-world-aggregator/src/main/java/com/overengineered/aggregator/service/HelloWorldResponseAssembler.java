@@ -0,0 +1,70 @@
+package com.overengineered.aggregator.service;
+
+import com.overengineered.aggregator.dto.HelloWorldRequestDto;
+import com.overengineered.aggregator.dto.HelloWorldResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Assembles a Hello World response from the hello and world parts.
+ * Shared by the blocking and reactive aggregator services, so both apply the same request transformations.
+ */
+final class HelloWorldResponseAssembler {
+
+    private HelloWorldResponseAssembler() {
+    }
+
+    /**
+     * Apply the request transformations to both parts and build the response.
+     *
+     * @param request The original request
+     * @param helloPart The hello part
+     * @param worldPart The world part
+     * @param startTime The time generation started, in epoch milliseconds
+     * @return The assembled response
+     */
+    static HelloWorldResponseDto assemble(HelloWorldRequestDto request, HelloWorldPart helloPart,
+                                          HelloWorldPart worldPart, long startTime) {
+        String hello = helloPart.text;
+        String world = worldPart.text;
+        
+        // Apply delimiter
+        String delimiter = request.getDelimiter() != null ? request.getDelimiter() : " ";
+        
+        // Apply transformations if needed
+        if (Boolean.TRUE.equals(request.getUppercase())) {
+            hello = hello.toUpperCase();
+            world = world.toUpperCase();
+        }
+        
+        if (Boolean.TRUE.equals(request.getReversed())) {
+            hello = new StringBuilder(hello).reverse().toString();
+            world = new StringBuilder(world).reverse().toString();
+        }
+        
+        // Generate the combined message
+        String message = hello + delimiter + world;
+        
+        long generationTime = System.currentTimeMillis() - startTime;
+        
+        return HelloWorldResponseDto.builder()
+                .id(UUID.randomUUID().toString())
+                .message(message)
+                .helloText(hello)
+                .worldText(world)
+                .language(request.getLanguage())
+                .formalityLevel(request.getFormalityLevel())
+                .planetType(request.getPlanetType())
+                .scope(request.getScope())
+                .delimiter(delimiter)
+                .generatedAt(LocalDateTime.now())
+                .generationTimeMillis(generationTime)
+                .requestId(UUID.randomUUID().toString())
+                .helloStrategy(helloPart.strategy)
+                .worldStrategy(worldPart.strategy)
+                .isFromCache(false)
+                .source("AGGREGATOR_SERVICE")
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.overengineered.aggregator.service;
+
+import com.overengineered.aggregator.dto.HelloWorldRequestDto;
+import com.overengineered.aggregator.dto.HelloWorldResponseDto;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link HelloWorldAggregatorService}.
+ * No thread is held while waiting on the Hello and World services.
+ */
+public interface ReactiveHelloWorldAggregatorService {
+
+    /**
+     * Generate a Hello World message based on the request parameters.
+     *
+     * @param request The request containing all parameters for customization
+     * @return The generated Hello World message response
+     */
+    Mono<HelloWorldResponseDto> generateHelloWorld(HelloWorldRequestDto request);
+
+    /**
+     * Generate a Hello World message with default settings.
+     *
+     * @return The generated Hello World message response
+     */
+    Mono<HelloWorldResponseDto> generateDefaultHelloWorld();
+}
@@ -0,0 +1,231 @@
+package com.overengineered.aggregator.service;
+
+import com.overengineered.aggregator.client.HelloServiceClientFallback;
+import com.overengineered.aggregator.client.WorldServiceClientFallback;
+import com.overengineered.aggregator.config.CacheConfig;
+import com.overengineered.aggregator.config.NearCache;
+import com.overengineered.aggregator.config.ClientExecutorProperties;
+import com.overengineered.aggregator.dto.HelloWorldRequestDto;
+import com.overengineered.aggregator.dto.HelloWorldResponseDto;
+import com.overengineered.aggregator.event.HelloWorldGeneratedEvent;
+import com.overengineered.aggregator.exception.DownstreamUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Reactive implementation of the aggregator.
+ * Calls the Hello and World services through a load-balanced WebClient, addressed by their service IDs like the
+ * Feign clients, and zips the results.
+ * Fragments are read from and written to the same caches as the blocking aggregator.
+ * Each call is guarded by the same Resilience4j instances as the Feign clients, applied as Reactor operators,
+ * and has its own timeout; both calls share one overall deadline. A call that still fails is replaced by its
+ * own client fallback, without discarding the result of the other call. When both calls fall back, the Mono fails
+ * with a {@link DownstreamUnavailableException} under the aggregator's own retry and circuit breaker, like the
+ * blocking aggregator.
+ */
+@Service
+@Slf4j
+public class ReactiveHelloWorldAggregatorServiceImpl implements ReactiveHelloWorldAggregatorService {
+
+    private static final String HELLO_SERVICE = "helloService";
+    private static final String WORLD_SERVICE = "worldService";
+    private static final String AGGREGATOR_SERVICE = "aggregatorService";
+    private static final String HELLO_SERVICE_URL = "http://hello-service";
+    private static final String WORLD_SERVICE_URL = "http://world-service";
+
+    private final WebClient helloWebClient;
+    private final WebClient worldWebClient;
+    private final Duration helloTimeout;
+    private final Duration worldTimeout;
+    private final Duration deadline;
+    private final HelloServiceClientFallback helloServiceClientFallback;
+    private final WorldServiceClientFallback worldServiceClientFallback;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RetryRegistry retryRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache helloFragments;
+    private final Cache worldFragments;
+
+    public ReactiveHelloWorldAggregatorServiceImpl(WebClient.Builder loadBalancedWebClientBuilder,
+                                                   @Value("${aggregator.client.hello-service.timeout:5000}") long helloTimeoutMs,
+                                                   @Value("${aggregator.client.world-service.timeout:5000}") long worldTimeoutMs,
+                                                   ClientExecutorProperties clientExecutorProperties,
+                                                   HelloServiceClientFallback helloServiceClientFallback,
+                                                   WorldServiceClientFallback worldServiceClientFallback,
+                                                   CircuitBreakerRegistry circuitBreakerRegistry,
+                                                   RetryRegistry retryRegistry,
+                                                   BulkheadRegistry bulkheadRegistry,
+                                                   RateLimiterRegistry rateLimiterRegistry,
+                                                   ApplicationEventPublisher eventPublisher,
+                                                   CacheManager cacheManager) {
+        this.helloWebClient = loadBalancedWebClientBuilder.clone().baseUrl(HELLO_SERVICE_URL).build();
+        this.worldWebClient = loadBalancedWebClientBuilder.clone().baseUrl(WORLD_SERVICE_URL).build();
+        this.helloTimeout = Duration.ofMillis(helloTimeoutMs);
+        this.worldTimeout = Duration.ofMillis(worldTimeoutMs);
+        this.deadline = Duration.ofMillis(clientExecutorProperties.getDeadlineMs());
+        this.helloServiceClientFallback = helloServiceClientFallback;
+        this.worldServiceClientFallback = worldServiceClientFallback;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.retryRegistry = retryRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.helloFragments = cacheManager.getCache(CacheConfig.HELLO_FRAGMENTS_CACHE);
+        this.worldFragments = cacheManager.getCache(CacheConfig.WORLD_FRAGMENTS_CACHE);
+    }
+
+    @Override
+    public Mono<HelloWorldResponseDto> generateHelloWorld(HelloWorldRequestDto request) {
+        log.info("Generating Hello World message reactively with request: {}", request);
+        return Mono.defer(() -> {
+            long startTime = System.currentTimeMillis();
+            
+            Mono<HelloWorldPart> hello = cached(helloFragments,
+                    HelloWorldFragmentService.helloKey(request.getLanguage(), request.getFormalityLevel()),
+                    guard(fetchHello(request), HELLO_SERVICE, helloTimeout,
+                            () -> helloServiceClientFallback.generateHello(request.getLanguage(), request.getFormalityLevel())));
+            Mono<HelloWorldPart> world = cached(worldFragments,
+                    HelloWorldFragmentService.worldKey(request.getLanguage(), request.getPlanetType(), request.getScope()),
+                    guard(fetchWorld(request), WORLD_SERVICE, worldTimeout,
+                            () -> worldServiceClientFallback.generateWorld(request.getLanguage(),
+                                    request.getPlanetType().toString(), request.getScope().toString())));
+            
+            return Mono.zip(hello, world).flatMap(parts -> {
+                if (parts.getT1().isFallback() && parts.getT2().isFallback()) {
+                    return Mono.error(new DownstreamUnavailableException(
+                            "Neither the Hello nor the World service produced a part"));
+                }
+                return Mono.just(HelloWorldResponseAssembler.assemble(request, parts.getT1(), parts.getT2(), startTime));
+            });
+        }).transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(AGGREGATOR_SERVICE)))
+                .transformDeferred(RetryOperator.of(retryRegistry.retry(AGGREGATOR_SERVICE)))
+                .onErrorMap(CallNotPermittedException.class, e -> new DownstreamUnavailableException(e.getMessage()))
+                .doOnNext(response -> {
+                    eventPublisher.publishEvent(new HelloWorldGeneratedEvent(this, response));
+                    log.info("Generated Hello World message in {}ms: {}", response.getGenerationTimeMillis(), response.getMessage());
+                });
+    }
+
+    @Override
+    public Mono<HelloWorldResponseDto> generateDefaultHelloWorld() {
+        log.info("Generating default Hello World message reactively");
+        return generateHelloWorld(HelloWorldRequestDto.createDefault());
+    }
+
+    /**
+     * Fetch the hello part from the Hello service.
+     *
+     * @param request The request containing language and formality level
+     * @return The hello greeting text
+     */
+    private Mono<String> fetchHello(HelloWorldRequestDto request) {
+        return helloWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/greetings/generate")
+                        .queryParam("language", request.getLanguage())
+                        .queryParam("formalityLevel", request.getFormalityLevel())
+                        .build())
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    /**
+     * Fetch the world part from the World service.
+     *
+     * @param request The request containing language, planet type, and scope
+     * @return The world text
+     */
+    private Mono<String> fetchWorld(HelloWorldRequestDto request) {
+        return worldWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/worlds/generate")
+                        .queryParam("language", request.getLanguage())
+                        .queryParam("planetType", request.getPlanetType())
+                        .queryParam("scope", request.getScope())
+                        .build())
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+
+    /**
+     * Read a fragment from its cache, or fetch it and cache it if it came from the downstream service.
+     * Redis lookups are blocking, so they run on the bounded elastic scheduler.
+     *
+     * @param cache The fragment cache
+     * @param key The fragment key
+     * @param fetch The guarded downstream call
+     * @return The fragment
+     */
+    private Mono<HelloWorldPart> cached(Cache cache, Object key, Mono<HelloWorldPart> fetch) {
+        // Local hits are answered on the calling thread; only Redis lookups move to the blocking scheduler
+        Object local = cache instanceof NearCache ? ((NearCache) cache).peekLocal(key) : null;
+        if (local instanceof String) {
+            return Mono.just(HelloWorldPart.remote((String) local));
+        }
+        return Mono.fromCallable(() -> cache.get(key, String.class))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Failed to read fragment {} from cache {}: {}", key, cache.getName(), e.getMessage());
+                    return Mono.empty();
+                })
+                .map(HelloWorldPart::remote)
+                .switchIfEmpty(Mono.defer(() -> fetch.doOnNext(part -> {
+                    if (HelloWorldPart.REMOTE_STRATEGY.equals(part.strategy)) {
+                        Schedulers.boundedElastic().schedule(() -> putQuietly(cache, key, part.text));
+                    }
+                })));
+    }
+
+    private void putQuietly(Cache cache, Object key, String text) {
+        try {
+            cache.put(key, text);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write fragment {} to cache {}: {}", key, cache.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Apply the Resilience4j instances of a downstream service, the per-call timeout and the overall deadline.
+     * Operators are applied in the same order as the annotations: the bulkhead and timeout guard each attempt,
+     * the rate limiter and circuit breaker see every attempt, and the retry wraps them all.
+     *
+     * @param call The downstream call
+     * @param instance The name of the Resilience4j instances to use
+     * @param timeout The timeout of a single attempt
+     * @param fallback The fallback to use if the call does not succeed before the deadline
+     * @return The text of the part and the strategy that produced it
+     */
+    private Mono<HelloWorldPart> guard(Mono<String> call, String instance, Duration timeout, Supplier<String> fallback) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(instance)))
+                .timeout(timeout)
+                .transformDeferred(RateLimiterOperator.of(rateLimiterRegistry.rateLimiter(instance)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(instance)))
+                .transformDeferred(RetryOperator.of(retryRegistry.retry(instance)))
+                .timeout(deadline)
+                .map(HelloWorldPart::remote)
+                .onErrorResume(e -> {
+                    log.warn("The {} call failed, using its fallback: {}", instance, e.getMessage());
+                    return Mono.fromSupplier(() -> HelloWorldPart.fallback(fallback.get()));
+                });
+    }
+}
@@ -0,0 +1,84 @@
+package com.overengineered.aggregator.config;
+
+import com.overengineered.aggregator.model.GeographicalScope;
+import com.overengineered.aggregator.model.PlanetType;
+import com.overengineered.aggregator.service.HelloWorldFragmentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of building a world fragment cache key with the SpEL string key the fragment cache used
+ * before, evaluated the way the cache interceptor does (a parsed expression and a new method-based evaluation
+ * context per call), and with {@link PackedCacheKeyGenerator}.
+ * Run with {@code mvn -pl hello-world-aggregator -am test -Pbenchmark -Dbenchmark=PackedCacheKeyBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PackedCacheKeyBenchmark {
+
+    private static final String[] LANGUAGES = {"en", "es", "fr", "de", "it", "zh", "ja"};
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final PackedCacheKeyGenerator generator = new PackedCacheKeyGenerator();
+    private final Object target = new Object();
+    private Method method;
+    private Expression spelKey;
+    private Object[][] arguments;
+    private int next;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = HelloWorldFragmentService.class.getMethod("fetchWorld", String.class, PlanetType.class, GeographicalScope.class);
+        spelKey = new SpelExpressionParser().parseExpression("#language + '-' + #planetType + '-' + #scope");
+
+        List<Object[]> combinations = new ArrayList<>();
+        for (String language : LANGUAGES) {
+            for (PlanetType planetType : PlanetType.values()) {
+                for (GeographicalScope scope : GeographicalScope.values()) {
+                    combinations.add(new Object[]{language, planetType, scope});
+                }
+            }
+        }
+        arguments = combinations.toArray(new Object[0][]);
+    }
+
+    @Benchmark
+    public Object spelStringKey() {
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                target, method, nextArguments(), parameterNameDiscoverer);
+        return spelKey.getValue(context);
+    }
+
+    @Benchmark
+    public Object packedKey() {
+        return generator.generate(target, method, nextArguments());
+    }
+
+    private Object[] nextArguments() {
+        Object[] args = arguments[next];
+        next = next + 1 == arguments.length ? 0 : next + 1;
+        return args;
+    }
+}
@@ -0,0 +1,95 @@
+package com.overengineered.aggregator.config;
+
+import com.overengineered.aggregator.model.GeographicalScope;
+import com.overengineered.aggregator.model.PlanetType;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PackedCacheKeyGeneratorTest {
+
+    private static final String[] LANGUAGES = {"en", "es", "fr", "de", "it", "zh", "ja"};
+
+    private final PackedCacheKeyGenerator generator = new PackedCacheKeyGenerator();
+    private final Method method = method();
+
+    @Test
+    void generatesDistinctKeysForAllWorldParameters() {
+        Set<Object> keys = new HashSet<>();
+        for (String language : LANGUAGES) {
+            for (PlanetType planetType : PlanetType.values()) {
+                for (GeographicalScope scope : GeographicalScope.values()) {
+                    keys.add(generator.generate(this, method, language, planetType, scope));
+                }
+            }
+        }
+
+        assertEquals(LANGUAGES.length * PlanetType.values().length * GeographicalScope.values().length, keys.size());
+    }
+
+    @Test
+    void separatesHelloAndWorldKeys() {
+        Object hello = generator.generate(this, method, "en", 0);
+        Object world = generator.generate(this, method, "en", PlanetType.EARTH, GeographicalScope.GLOBAL);
+
+        assertNotEquals(hello, world);
+        assertEquals(hello, PackedCacheKey.of("EN", 0, null, null));
+    }
+
+    @Test
+    void handlesNullEnums() {
+        Object key = generator.generate(this, method, "en", null, null);
+
+        assertTrue(key instanceof PackedCacheKey);
+        assertNotEquals(key, generator.generate(this, method, "en", PlanetType.EARTH, null));
+    }
+
+    @Test
+    void roundTripsPackedValue() {
+        PackedCacheKey key = (PackedCacheKey) PackedCacheKey.of("zh", null, PlanetType.PLUTO, GeographicalScope.LOCAL);
+
+        assertEquals(key, PackedCacheKey.fromValue(key.value()));
+        assertEquals(key.toString(), PackedCacheKey.fromValue(key.value()).toString());
+    }
+
+    @Test
+    void reusesKeys() {
+        Object key = generator.generate(this, method, "fr", PlanetType.MARS, GeographicalScope.REGIONAL);
+
+        assertSame(key, generator.generate(this, method, "fr", PlanetType.MARS, GeographicalScope.REGIONAL));
+        assertSame(key, PackedCacheKey.fromValue(((PackedCacheKey) key).value()));
+    }
+
+    @Test
+    void fallsBackToStringKeyForUnpackableLanguage() {
+        Object key = PackedCacheKey.of("en-GB", null, PlanetType.EARTH, GeographicalScope.GLOBAL);
+
+        assertEquals("en-GB-null-EARTH-GLOBAL", key);
+    }
+
+    @Test
+    void writesShorterRedisKeysThanStringKeys() {
+        String prefix = CacheConfig.WORLD_FRAGMENTS_CACHE + "::";
+        int stringBytes = (prefix + "en-NEPTUNE-CONTINENTAL").getBytes(StandardCharsets.UTF_8).length;
+        int packedBytes = (prefix + PackedCacheKey.of("en", null, PlanetType.NEPTUNE, GeographicalScope.CONTINENTAL))
+                .getBytes(StandardCharsets.UTF_8).length;
+
+        assertTrue(packedBytes < stringBytes);
+    }
+
+    private static Method method() {
+        try {
+            return PackedCacheKeyGeneratorTest.class.getDeclaredMethod("method");
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.overengineered.aggregator.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FairPriorityTaskQueueTest {
+
+    private final FairPriorityTaskQueue queue = new FairPriorityTaskQueue(10);
+
+    @Test
+    void takesHigherPriorityFirst() throws InterruptedException {
+        queue.offer(task("low", "a", 0));
+        queue.offer(task("high", "a", 5));
+        queue.offer(task("medium", "b", 1));
+
+        assertEquals("high", ((AsyncGenerationTask) queue.peek()).getRequestId());
+        assertEquals(List.of("high", "medium", "low"), List.of(next(), next(), next()));
+    }
+
+    @Test
+    void alternatesBetweenClientsWithinAPriority() throws InterruptedException {
+        queue.offer(task("a1", "a", 0));
+        queue.offer(task("a2", "a", 0));
+        queue.offer(task("a3", "a", 0));
+        queue.offer(task("b1", "b", 0));
+        queue.offer(task("c1", "c", 0));
+
+        assertEquals(List.of("a1", "b1", "c1", "a2", "a3"), List.of(next(), next(), next(), next(), next()));
+    }
+
+    @Test
+    void keepsSubmissionOrderWithinAClient() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            queue.offer(task("a" + i, "a", 0));
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("a" + i, next());
+        }
+    }
+
+    @Test
+    void rejectsOffersBeyondCapacity() {
+        FairPriorityTaskQueue small = new FairPriorityTaskQueue(2);
+        assertTrue(small.offer(task("a1", "a", 0)));
+        assertTrue(small.offer(task("b1", "b", 0)));
+
+        assertFalse(small.offer(task("c1", "c", 9)));
+        assertFalse(small.offer(task("c1", "c", 9), 1, TimeUnit.SECONDS));
+        assertThrows(IllegalStateException.class, () -> small.put(task("c1", "c", 9)));
+        assertEquals(0, small.remainingCapacity());
+        assertEquals(2, small.size());
+
+        small.poll();
+        assertTrue(small.offer(task("c1", "c", 9)));
+    }
+
+    @Test
+    void pollWithTimeoutReturnsNullWhenEmpty() throws InterruptedException {
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void pollWithTimeoutReturnsTaskOfferedWhileWaiting() throws Exception {
+        AsyncGenerationTask task = task("a1", "a", 0);
+        CompletableFuture<Runnable> polled = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.poll(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        });
+
+        Thread.sleep(50);
+        queue.offer(task);
+
+        assertSame(task, polled.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void drainsInTakeOrder() {
+        queue.offer(task("a1", "a", 0));
+        queue.offer(task("a2", "a", 0));
+        queue.offer(task("b1", "b", 0));
+        queue.offer(task("high", "c", 1));
+
+        List<Runnable> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained, 2));
+        assertEquals(2, queue.drainTo(drained));
+
+        assertEquals(List.of("high", "a1", "b1", "a2"), requestIds(drained));
+        assertEquals(0, queue.size());
+        assertNull(queue.peek());
+    }
+
+    @Test
+    void removesQueuedTask() throws InterruptedException {
+        AsyncGenerationTask removed = task("a1", "a", 0);
+        queue.offer(removed);
+        queue.offer(task("b1", "b", 0));
+
+        assertTrue(queue.remove(removed));
+        assertFalse(queue.remove(removed));
+        assertEquals(1, queue.size());
+        assertEquals("b1", next());
+    }
+
+    private String next() throws InterruptedException {
+        return ((AsyncGenerationTask) queue.take()).getRequestId();
+    }
+
+    private static List<String> requestIds(List<Runnable> tasks) {
+        List<String> requestIds = new ArrayList<>();
+        for (Runnable task : tasks) {
+            requestIds.add(((AsyncGenerationTask) task).getRequestId());
+        }
+        return requestIds;
+    }
+
+    private static AsyncGenerationTask task(String requestId, String clientId, int priority) {
+        return new AsyncGenerationTask(requestId, clientId, priority, () -> { });
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * Feign client for communicating with the Hello World Aggregator Service.
@@ -52,4 +53,15 @@ public interface AggregatorServiceClient {
      */
     @GetMapping("/{id}/status")
     AsyncResponseDto checkAsyncStatus(@PathVariable("id") String id);
+
+    /**
+     * Wait for an asynchronous request to finish (long poll).
+     * The aggregator answers as soon as the request is DONE or FAILED, or with the current status after waitMs.
+     *
+     * @param id The ID of the message to wait for
+     * @param waitMs The maximum time the aggregator should wait, in milliseconds
+     * @return Asynchronous response with status information, and the result once DONE
+     */
+    @GetMapping("/{id}/status")
+    AsyncResponseDto awaitAsyncStatus(@PathVariable("id") String id, @RequestParam("waitMs") long waitMs);
 }
@@ -71,6 +71,12 @@ public class AggregatorServiceClientFallback implements AggregatorServiceClient
                 .build();
     }
 
+    @Override
+    public AsyncResponseDto awaitAsyncStatus(String id, long waitMs) {
+        log.warn("Fallback: generating default async status while waiting for ID: {}", id);
+        return checkAsyncStatus(id);
+    }
+
     /**
      * Create a fallback response based on the request.
      *
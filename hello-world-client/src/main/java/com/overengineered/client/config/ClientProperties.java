@@ -22,6 +22,12 @@ public class ClientProperties {
      */
     private int maxPollAttempts = 60;
     
+    /**
+     * How long each poll for an async result waits on the aggregator before returning, in milliseconds.
+     * Must stay below the request timeout.
+     */
+    private long asyncWaitMs = 4000;
+    
     /**
      * Default timeout for requests in milliseconds.
      */
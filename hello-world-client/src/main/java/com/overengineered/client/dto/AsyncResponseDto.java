@@ -20,4 +20,8 @@ public class AsyncResponseDto {
     private String estimatedCompletionTime;
     private Integer position;
     private String pollUrl;
+    private String error;
+    
+    // Set once the status is DONE
+    private HelloWorldResponseDto result;
 }
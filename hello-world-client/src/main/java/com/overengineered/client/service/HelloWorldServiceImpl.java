@@ -4,6 +4,7 @@ import com.overengineered.client.client.AggregatorServiceClient;
 import com.overengineered.client.command.HelloWorldCommand.HelloWorldRequest;
 import com.overengineered.client.command.HelloWorldCommand.HelloWorldResponse;
 import com.overengineered.client.config.ClientProperties;
+import com.overengineered.client.dto.AsyncResponseDto;
 import com.overengineered.client.dto.HelloWorldRequestDto;
 import com.overengineered.client.dto.HelloWorldResponseDto;
 import com.overengineered.client.exception.HelloWorldClientException;
@@ -82,11 +83,16 @@ public class HelloWorldServiceImpl implements HelloWorldService {
             String messageId = aggregatorClient.generateHelloWorldAsync(requestDto).getMessageId();
             log.info("Async request submitted, message ID: {}", messageId);
             
-            // Poll for the result
+            // Long-poll for the result: each poll returns as soon as the job finishes
             HelloWorldResponseDto responseDto = retryUtil.retryUntilResult(
                     () -> {
-                        log.debug("Polling for result of message ID: {}", messageId);
-                        return Optional.ofNullable(aggregatorClient.getHelloWorldById(messageId));
+                        log.debug("Waiting for result of message ID: {}", messageId);
+                        AsyncResponseDto status = aggregatorClient.awaitAsyncStatus(messageId, properties.getAsyncWaitMs());
+                        if ("FAILED".equals(status.getStatus())) {
+                            throw new HelloWorldClientException("Async generation of message ID " + messageId
+                                    + " failed: " + status.getError());
+                        }
+                        return Optional.ofNullable(status.getResult());
                     },
                     pollIntervalMs,
                     properties.getMaxPollAttempts(),
@@ -16,6 +16,7 @@ public class RetryUtil {
 
     /**
      * Retry an operation until it succeeds or the maximum number of attempts is reached.
+     * A HelloWorldClientException thrown by the operation is permanent and ends the retries.
      *
      * @param supplier The operation to retry
      * @param sleepTimeMs The time to sleep between retries in milliseconds
@@ -23,7 +24,7 @@ public class RetryUtil {
      * @param timeoutMessage The message to display if the operation times out
      * @param <T> The type of the result
      * @return The result of the operation
-     * @throws HelloWorldClientException if the operation times out
+     * @throws HelloWorldClientException if the operation times out or fails permanently
      */
     public <T> T retryUntilResult(Supplier<Optional<T>> supplier,
                                   long sleepTimeMs,
@@ -37,6 +38,8 @@ public class RetryUtil {
                     return result.get();
                 }
                 log.debug("No result yet, retrying ({}/{})", attempts + 1, maxAttempts);
+            } catch (HelloWorldClientException e) {
+                throw e;
             } catch (Exception e) {
                 log.warn("Error while retrying: {}", e.getMessage());
             }
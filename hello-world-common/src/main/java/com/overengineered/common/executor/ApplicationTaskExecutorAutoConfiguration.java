@@ -0,0 +1,32 @@
+package com.overengineered.common.executor;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Keeps Spring Boot's {@code applicationTaskExecutor} when a service defines executors of its own.
+ * Boot only creates it when no other Executor bean exists, so without this the named executors of a service
+ * would leave MVC async requests and unqualified @Async methods on an unbounded SimpleAsyncTaskExecutor.
+ * The executor is built from the {@code spring.task.execution.*} properties, which services set to bounded values.
+ */
+@AutoConfiguration(before = TaskExecutionAutoConfiguration.class)
+public class ApplicationTaskExecutorAutoConfiguration {
+
+    /**
+     * Configure the application task executor, also registered as the default @Async executor.
+     *
+     * @param builder Boot's builder, configured from {@code spring.task.execution.*}
+     * @return The application task executor
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @ConditionalOnMissingBean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
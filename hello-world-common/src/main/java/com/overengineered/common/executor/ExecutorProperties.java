@@ -0,0 +1,49 @@
+package com.overengineered.common.executor;
+
+import lombok.Data;
+
+/**
+ * Settings of a bounded executor built by {@link InstrumentedExecutors}.
+ * Services bind one instance per executor, each under its own prefix.
+ */
+@Data
+public class ExecutorProperties {
+
+    /**
+     * Number of threads kept alive even when idle.
+     */
+    private int corePoolSize = 2;
+
+    /**
+     * Upper bound on the number of threads.
+     */
+    private int maxPoolSize = 4;
+
+    /**
+     * Upper bound on the number of queued tasks.
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * Idle time after which threads above the core size are released.
+     */
+    private int keepAliveSeconds = 60;
+
+    /**
+     * Prefix for the names of the executor threads.
+     */
+    private String threadNamePrefix = "executor-";
+
+    /**
+     * What to do with a task when both the pool and the queue are full.
+     */
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.DROP_OLDEST;
+
+    /**
+     * Enum representing the supported rejection policies.
+     * Every rejection is counted, whichever policy is used.
+     */
+    public enum RejectionPolicy {
+        DROP_OLDEST, CALLER_RUNS, DROP
+    }
+}
@@ -0,0 +1,94 @@
+package com.overengineered.common.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Builds executors that are bounded in both threads and queue size, so a burst of work can never
+ * exhaust memory or threads, and that report their saturation as metrics:
+ * {@code <metricPrefix>.queue.depth}, {@code <metricPrefix>.active} and {@code <metricPrefix>.rejected},
+ * tagged with the executor name.
+ */
+@Slf4j
+public final class InstrumentedExecutors {
+
+    private InstrumentedExecutors() {
+    }
+
+    /**
+     * Build and initialize a bounded, instrumented executor.
+     *
+     * @param name The executor name, used as metric tag
+     * @param metricPrefix The prefix of the metric names
+     * @param properties The executor settings
+     * @param meterRegistry The meter registry to report queue depth, active threads and rejections to
+     * @return The initialized executor
+     */
+    public static ThreadPoolTaskExecutor threadPool(String name, String metricPrefix, ExecutorProperties properties,
+                                                    MeterRegistry meterRegistry) {
+        log.info("Configuring {} with core pool size {}, max pool size {}, queue capacity {} and rejection policy {}",
+                name, properties.getCorePoolSize(), properties.getMaxPoolSize(),
+                properties.getQueueCapacity(), properties.getRejectionPolicy());
+
+        Counter rejected = Counter.builder(metricPrefix + ".rejected")
+                .description("Number of tasks rejected because the executor was saturated")
+                .tag("executor", name)
+                .tag("policy", properties.getRejectionPolicy().name())
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getCorePoolSize());
+        executor.setMaxPoolSize(properties.getMaxPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setKeepAliveSeconds(properties.getKeepAliveSeconds());
+        executor.setThreadNamePrefix(properties.getThreadNamePrefix());
+        executor.setRejectedExecutionHandler(countingHandler(properties.getRejectionPolicy(), rejected));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        Gauge.builder(metricPrefix + ".queue.depth", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Number of tasks waiting in the executor queue")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Number of threads currently running tasks")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    /**
+     * Wrap the configured rejection policy so that every rejection is counted.
+     *
+     * @param policy The rejection policy
+     * @param rejected The counter to increment on each rejection
+     * @return The rejection handler
+     */
+    private static RejectedExecutionHandler countingHandler(ExecutorProperties.RejectionPolicy policy, Counter rejected) {
+        RejectedExecutionHandler delegate;
+        switch (policy) {
+            case CALLER_RUNS:
+                delegate = new ThreadPoolExecutor.CallerRunsPolicy();
+                break;
+            case DROP:
+                delegate = new ThreadPoolExecutor.DiscardPolicy();
+                break;
+            case DROP_OLDEST:
+            default:
+                delegate = new ThreadPoolExecutor.DiscardOldestPolicy();
+        }
+
+        return (task, pool) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, pool);
+        };
+    }
+}
@@ -0,0 +1,37 @@
+// k6 load test for the world-service generate endpoint.
+// Run it once against the default (servlet) stack and once with SPRING_PROFILES_ACTIVE=dev,reactive,
+// then compare http_req_duration percentiles and the error rate at the same number of virtual users.
+//
+//   k6 run -e BASE_URL=http://localhost:8082/api/v1/world load-tests/world-service-generate.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082/api/v1/world';
+const LANGUAGES = ['en', 'es', 'fr', 'de', 'it', 'zh', 'ja'];
+const PLANETS = ['EARTH', 'MARS', 'VENUS', 'JUPITER'];
+
+export const options = {
+    scenarios: {
+        generate: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 1000 },
+                { duration: '30s', target: 5000 },
+                { duration: '2m', target: 5000 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<250', 'p(99)<500'],
+    },
+};
+
+export default function () {
+    const language = LANGUAGES[Math.floor(Math.random() * LANGUAGES.length)];
+    const planetType = PLANETS[Math.floor(Math.random() * PLANETS.length)];
+    const res = http.get(`${BASE_URL}/api/v1/worlds/generate?language=${language}&planetType=${planetType}&scope=GLOBAL`);
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
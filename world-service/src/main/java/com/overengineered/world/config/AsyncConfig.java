@@ -0,0 +1,77 @@
+package com.overengineered.world.config;
+
+import com.overengineered.common.executor.ExecutorProperties;
+import com.overengineered.common.executor.InstrumentedExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration class for the executors behind the @Async event listeners and the streamed responses.
+ * Both executors are bounded in threads and queue size, so an event storm or a burst of listing requests
+ * can never exhaust memory or threads. Other async work, such as unqualified @Async methods,
+ * runs on the bounded {@code applicationTaskExecutor} configured by {@code spring.task.execution.*}.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String WORLD_EVENT_EXECUTOR = "worldEventExecutor";
+    public static final String STREAMING_RESPONSE_EXECUTOR = "streamingResponseExecutor";
+
+    /**
+     * Configure the settings of the event listener executor.
+     *
+     * @return The executor properties, bound from {@code world.event.executor}
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "world.event.executor")
+    public ExecutorProperties worldEventExecutorProperties() {
+        ExecutorProperties properties = new ExecutorProperties();
+        properties.setThreadNamePrefix("world-event-");
+        return properties;
+    }
+
+    /**
+     * Configure the executor used by {@code WorldEventListener}.
+     *
+     * @param meterRegistry The meter registry to report queue depth, active threads and rejections to
+     * @return The configured executor
+     */
+    @Bean(name = WORLD_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor worldEventExecutor(MeterRegistry meterRegistry) {
+        return InstrumentedExecutors.threadPool(WORLD_EVENT_EXECUTOR, "event.executor",
+                worldEventExecutorProperties(), meterRegistry);
+    }
+
+    /**
+     * Configure the settings of the streamed response executor.
+     * A saturated executor writes the response on the request thread instead of rejecting it.
+     *
+     * @return The executor properties, bound from {@code world.web.streaming.executor}
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "world.web.streaming.executor")
+    public ExecutorProperties streamingResponseExecutorProperties() {
+        ExecutorProperties properties = new ExecutorProperties();
+        properties.setCorePoolSize(4);
+        properties.setMaxPoolSize(16);
+        properties.setQueueCapacity(50);
+        properties.setThreadNamePrefix("world-stream-");
+        properties.setRejectionPolicy(ExecutorProperties.RejectionPolicy.CALLER_RUNS);
+        return properties;
+    }
+
+    /**
+     * Configure the executor that writes StreamingResponseBody responses, wired in by {@link WebMvcAsyncConfig}.
+     *
+     * @param meterRegistry The meter registry to report queue depth, active threads and rejections to
+     * @return The configured executor
+     */
+    @Bean(name = STREAMING_RESPONSE_EXECUTOR)
+    public ThreadPoolTaskExecutor streamingResponseExecutor(MeterRegistry meterRegistry) {
+        return InstrumentedExecutors.threadPool(STREAMING_RESPONSE_EXECUTOR, "streaming.executor",
+                streamingResponseExecutorProperties(), meterRegistry);
+    }
+}
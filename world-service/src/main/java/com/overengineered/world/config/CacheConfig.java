@@ -9,6 +9,7 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.time.Duration;
 
@@ -20,31 +21,54 @@ import java.time.Duration;
 @EnableCaching
 public class CacheConfig {
 
+    /**
+     * Name of the cache holding world entity DTOs.
+     */
+    public static final String WORLD_ENTITIES_CACHE = "worldEntities";
+
     /**
      * Configure the Redis cache manager.
+     * The value format of each cache is selected through {@link CacheSerializationProperties}.
      *
      * @param connectionFactory The Redis connection factory
+     * @param properties The cache serialization properties
      * @return The Redis cache manager
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // Configure serialization
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
-        
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, CacheSerializationProperties properties) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))  // Cache entries expire after 10 minutes
                 .disableCachingNullValues()
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(serializer)
+                        RedisSerializationContext.SerializationPair.fromSerializer(
+                                valueSerializer(properties.getDefaultFormat(), properties))
                 );
                 
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
-                .withCacheConfiguration("worldEntities", 
+                .withCacheConfiguration(WORLD_ENTITIES_CACHE,
                         RedisCacheConfiguration.defaultCacheConfig()
                                 .entryTtl(Duration.ofMinutes(5))  // Different TTL for worldEntities cache
-                                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer)))
+                                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                                        valueSerializer(properties.formatFor(WORLD_ENTITIES_CACHE), properties))))
                 .transactionAware()
                 .build();
     }
+
+    /**
+     * Create the value serializer for a format.
+     * Also used by the reactive stack, so both write entries the other can read.
+     *
+     * @param format The value format
+     * @param properties The cache serialization properties
+     * @return The value serializer
+     */
+    public static RedisSerializer<Object> valueSerializer(CacheSerializationProperties.Format format,
+                                                         CacheSerializationProperties properties) {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+        if (format == CacheSerializationProperties.Format.BINARY) {
+            return new WorldEntityBinaryRedisSerializer(json, properties.getCompressionThresholdBytes());
+        }
+        return json;
+    }
 }
@@ -0,0 +1,50 @@
+package com.overengineered.world.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for how cache values are serialized in Redis.
+ */
+@Component
+@ConfigurationProperties(prefix = "world.cache")
+@Data
+public class CacheSerializationProperties {
+
+    /**
+     * Format used for caches that have no entry in {@link #serializers}.
+     */
+    private Format defaultFormat = Format.JSON;
+
+    /**
+     * Format per cache name, overriding {@link #defaultFormat}.
+     */
+    private Map<String, Format> serializers = new HashMap<>();
+
+    /**
+     * Binary values larger than this are deflated before being written to Redis.
+     */
+    private int compressionThresholdBytes = 512;
+
+    /**
+     * Resolve the format for a cache.
+     *
+     * @param cacheName The name of the cache
+     * @return The configured format for the cache, or the default format
+     */
+    public Format formatFor(String cacheName) {
+        return serializers.getOrDefault(cacheName, defaultFormat);
+    }
+
+    /**
+     * Enum representing the supported value formats.
+     * Both formats read entries written in JSON, so a cache can be switched without flushing it.
+     */
+    public enum Format {
+        JSON, BINARY
+    }
+}
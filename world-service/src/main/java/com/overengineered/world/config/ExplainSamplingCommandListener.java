@@ -0,0 +1,153 @@
+package com.overengineered.world.config;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command listener that explains a sample of the queries sent to Mongo.
+ * The explain runs on a single background thread with the query planner verbosity, so it never executes
+ * the query itself and never slows down the request that issued it. Plans containing a collection scan or
+ * an in-memory sort are counted in {@code mongodb.explain.flagged} and logged as warnings.
+ */
+@Slf4j
+public class ExplainSamplingCommandListener implements CommandListener, DisposableBean {
+
+    private static final Set<String> EXPLAINABLE_COMMANDS = Set.of("find", "aggregate", "count", "distinct");
+
+    // Fields added by the driver that are not part of the query and are rejected inside an explain
+    private static final Set<String> DRIVER_FIELDS = Set.of("$db", "lsid", "$clusterTime", "$readPreference",
+            "txnNumber", "autocommit", "startTransaction", "readConcern");
+
+    private final MongoExplainProperties properties;
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    public ExplainSamplingCommandListener(MongoExplainProperties properties,
+                                          ObjectProvider<MongoTemplate> mongoTemplate,
+                                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mongo-explain-sampler");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (properties.getSampleRate() <= 0 || !EXPLAINABLE_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+        BsonValue collection = event.getCommand().get(event.getCommandName());
+        if (collection == null || !collection.isString()
+                || !properties.getCollections().contains(collection.asString().getValue())) {
+            return;
+        }
+        if (ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+            return;
+        }
+
+        // The event's command is only valid during this callback, so copy it before handing it off
+        BsonDocument command = new BsonDocument();
+        event.getCommand().forEach((name, value) -> {
+            if (!DRIVER_FIELDS.contains(name)) {
+                command.put(name, value.clone());
+            }
+        });
+        String commandName = event.getCommandName();
+        String collectionName = collection.asString().getValue();
+        executor.execute(() -> explain(commandName, collectionName, command));
+    }
+
+    private void explain(String commandName, String collection, BsonDocument command) {
+        try {
+            Document result = mongoTemplate.getObject().getDb().runCommand(
+                    new Document("explain", command).append("verbosity", "queryPlanner"));
+            BsonDocument plan = result.toBsonDocument().getDocument("queryPlanner", new BsonDocument());
+
+            Set<String> stages = new LinkedHashSet<>();
+            collectStages(plan.get("winningPlan", new BsonDocument()), stages);
+            meterRegistry.counter("mongodb.explain.sampled", "collection", collection, "command", commandName).increment();
+
+            for (String flagged : new String[]{"COLLSCAN", "SORT"}) {
+                if (stages.contains(flagged)) {
+                    Counter.builder("mongodb.explain.flagged")
+                            .description("Number of sampled queries whose plan contains a collection scan or an in-memory sort")
+                            .tag("collection", collection)
+                            .tag("command", commandName)
+                            .tag("stage", flagged)
+                            .register(meterRegistry)
+                            .increment();
+                    log.warn("Sampled {} on {} uses a {} stage: {}", commandName, collection, flagged, shapeOf(command, commandName));
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Failed to explain sampled {} on {}: {}", commandName, collection, e.getMessage());
+        }
+    }
+
+    /**
+     * Collect the names of all stages in a plan tree, however deeply they are nested.
+     *
+     * @param node A node of the plan
+     * @param stages The set to add stage names to
+     */
+    private static void collectStages(BsonValue node, Set<String> stages) {
+        if (node.isDocument()) {
+            BsonDocument document = node.asDocument();
+            BsonValue stage = document.get("stage");
+            if (stage instanceof BsonString) {
+                stages.add(stage.asString().getValue());
+            }
+            document.values().forEach(child -> collectStages(child, stages));
+        } else if (node.isArray()) {
+            BsonArray array = node.asArray();
+            array.forEach(child -> collectStages(child, stages));
+        }
+    }
+
+    /**
+     * Describe a command by its filter and sort without the literal values, which may contain user data.
+     *
+     * @param command The command
+     * @param commandName The command name
+     * @return The filter and sort field names
+     */
+    private static String shapeOf(BsonDocument command, String commandName) {
+        if ("aggregate".equals(commandName)) {
+            return "pipeline of " + command.getArray("pipeline", new BsonArray()).size() + " stages";
+        }
+        BsonDocument filter = command.getDocument("filter", command.getDocument("query", new BsonDocument()));
+        BsonDocument sort = command.getDocument("sort", new BsonDocument());
+        return "filter " + filter.keySet() + ", sort " + sort.keySet();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,34 @@
+package com.overengineered.world.config;
+
+import com.overengineered.world.mapper.WorldEntityReadConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.util.List;
+
+/**
+ * Configuration for how WorldEntity documents are mapped.
+ * With {@code world.mongo.converter=explicit} the hand-written reading converter replaces the reflective
+ * mapping when WorldEntity documents are read; with the default, {@code reflective}, Spring Boot's conversions are used.
+ * Writes always stay reflective: a writing converter would register WorldEntity as a simple type, so it would
+ * stop being a persistent entity and lose its repository metadata, versioning, auditing and indexes.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(prefix = "world.mongo", name = "converter", havingValue = "explicit")
+public class MongoConversionConfig {
+
+    /**
+     * Register the hand-written WorldEntity reading converter.
+     *
+     * @return The custom conversions
+     */
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        log.info("Using the explicit Document reading converter for WorldEntity");
+        return new MongoCustomConversions(List.of(new WorldEntityReadConverter()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.overengineered.world.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the background explain sampler.
+ */
+@Component
+@ConfigurationProperties(prefix = "world.mongo.explain")
+@Data
+public class MongoExplainProperties {
+
+    /**
+     * Fraction of queries, between 0 and 1, that are explained. 0 disables the sampler.
+     */
+    private double sampleRate = 0.0;
+
+    /**
+     * Collections whose queries are sampled.
+     */
+    private List<String> collections = new ArrayList<>(List.of("world_entities"));
+
+    /**
+     * Upper bound on the number of explains waiting to run; further samples are dropped.
+     */
+    private int queueCapacity = 100;
+}
@@ -0,0 +1,44 @@
+package com.overengineered.world.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Configuration for Mongo instrumentation.
+ * Command latency timers ({@code mongodb.driver.commands}, tagged by command and collection) and connection
+ * pool gauges ({@code mongodb.driver.pool.*}) come from Spring Boot's Micrometer listeners and are turned
+ * into histograms in application.yml. This class adds the explain sampler on top.
+ */
+@Configuration
+public class MongoMetricsConfig {
+
+    /**
+     * Create the explain sampler.
+     *
+     * @param properties The explain sampler properties
+     * @param mongoTemplate The template used to run explains, resolved lazily since it depends on the client being configured
+     * @param meterRegistry The meter registry to report flagged plans to
+     * @return The explain sampling command listener
+     */
+    @Bean
+    public ExplainSamplingCommandListener explainSamplingCommandListener(MongoExplainProperties properties,
+                                                                         ObjectProvider<MongoTemplate> mongoTemplate,
+                                                                         MeterRegistry meterRegistry) {
+        return new ExplainSamplingCommandListener(properties, mongoTemplate, meterRegistry);
+    }
+
+    /**
+     * Register the explain sampler with the Mongo clients.
+     *
+     * @param listener The explain sampling command listener
+     * @return The client settings customizer
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer explainSamplingCustomizer(ExplainSamplingCommandListener listener) {
+        return builder -> builder.addCommandListener(listener);
+    }
+}
@@ -0,0 +1,42 @@
+package com.overengineered.world.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Configuration for the reactive world-service stack.
+ * Active with the "reactive" profile, which also switches the web application type to WebFlux.
+ */
+@Configuration
+@Profile("reactive")
+@EnableReactiveMongoRepositories(basePackages = "com.overengineered.world.repository")
+public class ReactiveConfig {
+
+    /**
+     * Configure a reactive Redis template for the worldEntities cache.
+     * Keys and values are serialized the same way as by the blocking cache manager,
+     * so both stacks can read each other's entries.
+     *
+     * @param connectionFactory The reactive Redis connection factory
+     * @param properties The cache serialization properties
+     * @return The reactive Redis template
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, Object> worldEntityReactiveRedisTemplate(
+            ReactiveRedisConnectionFactory connectionFactory,
+            CacheSerializationProperties properties) {
+
+        RedisSerializationContext<String, Object> context = RedisSerializationContext
+                .<String, Object>newSerializationContext(new StringRedisSerializer())
+                .value(CacheConfig.valueSerializer(properties.formatFor(CacheConfig.WORLD_ENTITIES_CACHE), properties))
+                .build();
+
+        return new ReactiveRedisTemplate<>(connectionFactory, context);
+    }
+}
@@ -0,0 +1,29 @@
+package com.overengineered.world.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Runs MVC async processing, which in this service means the streamed summary listings,
+ * on the bounded {@link AsyncConfig#STREAMING_RESPONSE_EXECUTOR} instead of the shared application executor.
+ * Applied after Spring Boot's own MVC configuration, so it replaces the executor Boot would set.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor streamingResponseExecutor;
+
+    public WebMvcAsyncConfig(@Qualifier(AsyncConfig.STREAMING_RESPONSE_EXECUTOR) ThreadPoolTaskExecutor streamingResponseExecutor) {
+        this.streamingResponseExecutor = streamingResponseExecutor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingResponseExecutor);
+    }
+}
@@ -0,0 +1,341 @@
+package com.overengineered.world.config;
+
+import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.dto.WorldEntityDto;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact binary Redis serializer for {@link WorldEntityDto} values and lists of them.
+ * Fields are written in a fixed order behind a presence bitmask, integers as varints, enums as
+ * ordinals and timestamps as epoch seconds, so no class or field names end up in Redis.
+ * Values above a size threshold are deflated.
+ * <p>
+ * Every binary value starts with a marker byte that can never start a JSON document.
+ * Values without the marker are read with the JSON serializer, and values of any other type are
+ * written as JSON, so entries from before the rollout stay readable until they expire.
+ * Enum constants must only ever be appended, because their ordinals are part of the format.
+ */
+public class WorldEntityBinaryRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte FORMAT_PLAIN = (byte) 0xB1;
+    private static final byte FORMAT_DEFLATED = (byte) 0xB2;
+
+    private static final byte TAG_DTO = 1;
+    private static final byte TAG_LIST = 2;
+
+    // Presence bits, in the order the fields are written
+    private static final int ID = 1;
+    private static final int UUID = 1 << 1;
+    private static final int LANGUAGE = 1 << 2;
+    private static final int TEXT = 1 << 3;
+    private static final int IS_ACTIVE = 1 << 4;
+    private static final int PRIORITY = 1 << 5;
+    private static final int CREATED_AT = 1 << 6;
+    private static final int UPDATED_AT = 1 << 7;
+    private static final int VERSION = 1 << 8;
+    private static final int DESCRIPTION = 1 << 9;
+    private static final int PLANET_TYPE = 1 << 10;
+    private static final int CONTINENT = 1 << 11;
+    private static final int GEOGRAPHICAL_SCOPE = 1 << 12;
+    private static final int CREATED_BY = 1 << 13;
+    private static final int LAST_MODIFIED_BY = 1 << 14;
+    private static final int SOURCE = 1 << 15;
+
+    private static final WorldEntity.PlanetType[] PLANET_TYPES = WorldEntity.PlanetType.values();
+    private static final WorldEntity.Continent[] CONTINENTS = WorldEntity.Continent.values();
+    private static final WorldEntity.GeographicalScope[] SCOPES = WorldEntity.GeographicalScope.values();
+
+    private final RedisSerializer<Object> jsonSerializer;
+    private final int compressionThresholdBytes;
+
+    /**
+     * Create a new serializer.
+     *
+     * @param jsonSerializer The serializer for values that are not world entities, and for legacy JSON entries
+     * @param compressionThresholdBytes Binary values larger than this are deflated
+     */
+    public WorldEntityBinaryRedisSerializer(RedisSerializer<Object> jsonSerializer, int compressionThresholdBytes) {
+        this.jsonSerializer = jsonSerializer;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value instanceof WorldEntityDto) {
+            Writer writer = new Writer();
+            writer.out.write(TAG_DTO);
+            writer.writeDto((WorldEntityDto) value);
+            return frame(writer.out);
+        }
+        if (value instanceof List && isDtoList((List<?>) value)) {
+            List<?> list = (List<?>) value;
+            Writer writer = new Writer();
+            writer.out.write(TAG_LIST);
+            writer.writeVarLong(list.size());
+            for (Object dto : list) {
+                writer.writeDto((WorldEntityDto) dto);
+            }
+            return frame(writer.out);
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != FORMAT_PLAIN && bytes[0] != FORMAT_DEFLATED) {
+            return jsonSerializer.deserialize(bytes);
+        }
+
+        ByteBuffer payload = bytes[0] == FORMAT_PLAIN
+                ? ByteBuffer.wrap(bytes, 1, bytes.length - 1)
+                : ByteBuffer.wrap(inflate(bytes));
+        try {
+            byte tag = payload.get();
+            if (tag == TAG_DTO) {
+                return readDto(payload);
+            }
+            if (tag == TAG_LIST) {
+                int size = (int) readVarLong(payload);
+                List<WorldEntityDto> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readDto(payload));
+                }
+                return list;
+            }
+            throw new SerializationException("Unknown world entity value tag: " + tag);
+        } catch (RuntimeException e) {
+            if (e instanceof SerializationException) {
+                throw e;
+            }
+            throw new SerializationException("Corrupt world entity value", e);
+        }
+    }
+
+    private static boolean isDtoList(List<?> list) {
+        for (Object element : list) {
+            if (!(element instanceof WorldEntityDto)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] frame(ByteArrayOutputStream payload) {
+        byte[] body = payload.toByteArray();
+        if (body.length <= compressionThresholdBytes) {
+            byte[] framed = new byte[body.length + 1];
+            framed[0] = FORMAT_PLAIN;
+            System.arraycopy(body, 0, framed, 1, body.length);
+            return framed;
+        }
+
+        Writer writer = new Writer();
+        writer.out.write(FORMAT_DEFLATED);
+        writer.writeVarLong(body.length);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            byte[] buffer = new byte[Math.max(64, body.length / 2)];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                writer.out.write(buffer, 0, written);
+            }
+        } finally {
+            deflater.end();
+        }
+        return writer.out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] bytes) {
+        ByteBuffer header = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        int length = (int) readVarLong(header);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, header.position(), bytes.length - header.position());
+            byte[] body = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(body, read, length - read);
+                if (n == 0 && inflater.needsInput()) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new SerializationException("Truncated world entity value");
+            }
+            return body;
+        } catch (DataFormatException e) {
+            throw new SerializationException("Corrupt world entity value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static WorldEntityDto readDto(ByteBuffer in) {
+        int present = (int) readVarLong(in);
+        WorldEntityDto dto = new WorldEntityDto();
+        dto.setId(has(present, ID) ? readString(in) : null);
+        dto.setUuid(has(present, UUID) ? readString(in) : null);
+        dto.setLanguage(has(present, LANGUAGE) ? readString(in) : null);
+        dto.setText(has(present, TEXT) ? readString(in) : null);
+        dto.setIsActive(has(present, IS_ACTIVE) ? in.get() != 0 : null);
+        dto.setPriority(has(present, PRIORITY) ? (int) zigZagDecode(readVarLong(in)) : null);
+        dto.setCreatedAt(has(present, CREATED_AT) ? readTimestamp(in) : null);
+        dto.setUpdatedAt(has(present, UPDATED_AT) ? readTimestamp(in) : null);
+        dto.setVersion(has(present, VERSION) ? zigZagDecode(readVarLong(in)) : null);
+        dto.setDescription(has(present, DESCRIPTION) ? readString(in) : null);
+        dto.setPlanetType(has(present, PLANET_TYPE) ? PLANET_TYPES[in.get()] : null);
+        dto.setContinent(has(present, CONTINENT) ? CONTINENTS[in.get()] : null);
+        dto.setGeographicalScope(has(present, GEOGRAPHICAL_SCOPE) ? SCOPES[in.get()] : null);
+        dto.setCreatedBy(has(present, CREATED_BY) ? readString(in) : null);
+        dto.setLastModifiedBy(has(present, LAST_MODIFIED_BY) ? readString(in) : null);
+        dto.setSource(has(present, SOURCE) ? readString(in) : null);
+        return dto;
+    }
+
+    private static boolean has(int present, int field) {
+        return (present & field) != 0;
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) readVarLong(in);
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static LocalDateTime readTimestamp(ByteBuffer in) {
+        long epochSecond = zigZagDecode(readVarLong(in));
+        int nanos = (int) readVarLong(in);
+        return LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Append-only encoder over a growable byte buffer.
+     */
+    private static final class Writer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+
+        private void writeDto(WorldEntityDto dto) {
+            int present = bit(dto.getId(), ID)
+                    | bit(dto.getUuid(), UUID)
+                    | bit(dto.getLanguage(), LANGUAGE)
+                    | bit(dto.getText(), TEXT)
+                    | bit(dto.getIsActive(), IS_ACTIVE)
+                    | bit(dto.getPriority(), PRIORITY)
+                    | bit(dto.getCreatedAt(), CREATED_AT)
+                    | bit(dto.getUpdatedAt(), UPDATED_AT)
+                    | bit(dto.getVersion(), VERSION)
+                    | bit(dto.getDescription(), DESCRIPTION)
+                    | bit(dto.getPlanetType(), PLANET_TYPE)
+                    | bit(dto.getContinent(), CONTINENT)
+                    | bit(dto.getGeographicalScope(), GEOGRAPHICAL_SCOPE)
+                    | bit(dto.getCreatedBy(), CREATED_BY)
+                    | bit(dto.getLastModifiedBy(), LAST_MODIFIED_BY)
+                    | bit(dto.getSource(), SOURCE);
+
+            // Absent fields are skipped by every write below, matching the presence bits
+            writeVarLong(present);
+            writeString(dto.getId());
+            writeString(dto.getUuid());
+            writeString(dto.getLanguage());
+            writeString(dto.getText());
+            writeFlag(dto.getIsActive());
+            writeSigned(dto.getPriority());
+            writeTimestamp(dto.getCreatedAt());
+            writeTimestamp(dto.getUpdatedAt());
+            writeSigned(dto.getVersion());
+            writeString(dto.getDescription());
+            writeOrdinal(dto.getPlanetType());
+            writeOrdinal(dto.getContinent());
+            writeOrdinal(dto.getGeographicalScope());
+            writeString(dto.getCreatedBy());
+            writeString(dto.getLastModifiedBy());
+            writeString(dto.getSource());
+        }
+
+        private static int bit(Object value, int field) {
+            return value != null ? field : 0;
+        }
+
+        private void writeFlag(Boolean value) {
+            if (value != null) {
+                out.write(value ? 1 : 0);
+            }
+        }
+
+        private void writeSigned(Number value) {
+            if (value != null) {
+                writeVarLong(zigZagEncode(value.longValue()));
+            }
+        }
+
+        private void writeOrdinal(Enum<?> value) {
+            if (value != null) {
+                out.write(value.ordinal());
+            }
+        }
+
+        private void writeString(String value) {
+            if (value == null) {
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            out.write(utf8, 0, utf8.length);
+        }
+
+        private void writeTimestamp(LocalDateTime value) {
+            if (value == null) {
+                return;
+            }
+            writeVarLong(zigZagEncode(value.toEpochSecond(ZoneOffset.UTC)));
+            writeVarLong(value.getNano());
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        private static long zigZagEncode(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package com.overengineered.world.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.dto.BulkWriteResultDto;
+import com.overengineered.world.dto.PriorityChangeDto;
+import com.overengineered.world.dto.WorldEntityCursor;
 import com.overengineered.world.dto.WorldEntityDto;
+import com.overengineered.world.dto.WorldEntityStatisticsDto;
 import com.overengineered.world.service.WorldService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,15 +19,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * REST controller for managing world entities.
@@ -31,10 +48,14 @@ import java.util.List;
 @Validated
 @Slf4j
 @RequiredArgsConstructor
+@Profile("!reactive")
 @Tag(name = "World Entity API", description = "Operations for managing world entities")
 public class WorldEntityController {
 
+    private static final int MAX_SUMMARY_PAGE_SIZE = 1000;
+
     private final WorldService worldService;
+    private final ObjectMapper objectMapper;
 
     /**
      * GET /api/v1/worlds : Get all world entities
@@ -53,6 +74,72 @@ public class WorldEntityController {
         return ResponseEntity.ok(entities);
     }
 
+    /**
+     * GET /api/v1/worlds/summaries : Stream one page of world entity summaries, highest priority first.
+     * The page is written to the response as it is read from Mongo, followed by the cursor for the next page.
+     *
+     * @param language The language to filter by, or null for all languages
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param limit The maximum number of summaries in the page
+     * @return ResponseEntity streaming {"items": [...], "nextCursor": "..."}
+     */
+    @GetMapping("/summaries")
+    @Operation(summary = "List world entity summaries with cursor pagination")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed world entity summaries"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> getWorldEntitySummaries(
+            @Parameter(description = "Language code to filter by")
+            @RequestParam(required = false) String language,
+            
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Maximum number of summaries, between 1 and " + MAX_SUMMARY_PAGE_SIZE)
+            @RequestParam(defaultValue = "100") int limit) {
+        
+        log.info("REST request to list world entity summaries for language {} from cursor {}", language, cursor);
+        // Decode before streaming starts, so a bad cursor still gets a proper 400
+        WorldEntityCursor after = WorldEntityCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(limit, MAX_SUMMARY_PAGE_SIZE));
+        
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                json.writeStartObject();
+                json.writeArrayFieldStart("items");
+                WorldEntityCursor next = worldService.streamWorldEntitySummaries(language, after, pageSize, summary -> {
+                    try {
+                        json.writeObject(summary);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                json.writeEndArray();
+                json.writeStringField("nextCursor", next != null ? next.encode() : null);
+                json.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * GET /api/v1/worlds/statistics : Get world entity counts per language, planet type, scope and active flag
+     *
+     * @return ResponseEntity with the count matrix
+     */
+    @GetMapping("/statistics")
+    @Operation(summary = "Get world entity statistics")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved world entity statistics"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<WorldEntityStatisticsDto> getWorldEntityStatistics() {
+        log.info("REST request to get world entity statistics");
+        return ResponseEntity.ok(worldService.getWorldEntityStatistics());
+    }
+
     /**
      * GET /api/v1/worlds/{id} : Get a world entity by ID
      *
@@ -152,6 +239,120 @@ public class WorldEntityController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * PATCH /api/v1/worlds/{id}/priority : Atomically set or increment the priority of a world entity
+     *
+     * @param id The ID of the world entity to change
+     * @param change The priority change
+     * @return ResponseEntity with the updated world entity
+     */
+    @PatchMapping("/{id}/priority")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Set or increment the priority of a world entity")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully changed the priority"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "World entity not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<WorldEntityDto> adjustPriority(
+            @Parameter(description = "ID of the world entity", required = true)
+            @PathVariable String id,
+            @Parameter(description = "Priority change", required = true)
+            @Valid @RequestBody PriorityChangeDto change) {
+        
+        log.info("REST request to change priority of world entity with ID: {}", id);
+        return ResponseEntity.ok(worldService.adjustPriority(id, change));
+    }
+
+    /**
+     * POST /api/v1/worlds/reorder : Apply priority changes to many world entities
+     *
+     * @param changes The priority changes, each with an ID
+     * @return ResponseEntity with the reorder result
+     */
+    @PostMapping("/reorder")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Set or increment the priorities of many world entities")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reorder processed; failed entries are listed in the result"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BulkWriteResultDto> reorderWorldEntities(
+            @Parameter(description = "Priority changes", required = true)
+            @RequestBody List<PriorityChangeDto> changes) {
+        
+        log.info("REST request to reorder {} world entities", changes.size());
+        return ResponseEntity.ok(worldService.reorderWorldEntities(changes));
+    }
+
+    /**
+     * POST /api/v1/worlds/bulk : Upsert world entities by UUID from a JSON array
+     *
+     * @param entities The world entities to upsert
+     * @return ResponseEntity with the bulk write result
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Upsert world entities in bulk from a JSON array")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk write processed; failed entries are listed in the result"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BulkWriteResultDto> bulkUpsertWorldEntities(
+            @Parameter(description = "World entities to upsert", required = true)
+            @RequestBody List<WorldEntityDto> entities) {
+        
+        log.info("REST request to bulk upsert {} world entities", entities.size());
+        return ResponseEntity.ok(worldService.bulkUpsertWorldEntities(entities.stream()));
+    }
+
+    /**
+     * POST /api/v1/worlds/bulk : Upsert world entities by UUID from newline-delimited JSON.
+     * The body is streamed, so only one chunk of entities is held in memory at a time.
+     *
+     * @param body The request body, one world entity per line
+     * @return ResponseEntity with the bulk write result
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Upsert world entities in bulk from newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk write processed; failed entries are listed in the result"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BulkWriteResultDto> bulkUpsertWorldEntitiesNdjson(InputStream body) throws IOException {
+        log.info("REST request to bulk upsert world entities from NDJSON");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Stream<WorldEntityDto> entities = reader.lines()
+                    .filter(line -> !line.isBlank())
+                    .map(this::parseLine);
+            return ResponseEntity.ok(worldService.bulkUpsertWorldEntities(entities));
+        }
+    }
+
+    /**
+     * Parse one NDJSON line. Unparseable lines become null, which the service reports as a failed entry.
+     *
+     * @param line The line to parse
+     * @return The parsed world entity, or null
+     */
+    private WorldEntityDto parseLine(String line) {
+        try {
+            return objectMapper.readValue(line, WorldEntityDto.class);
+        } catch (JsonProcessingException e) {
+            log.debug("Skipping unparseable bulk entry: {}", e.getOriginalMessage());
+            return null;
+        }
+    }
+
     /**
      * GET /api/v1/worlds/generate : Generate a world text
      *
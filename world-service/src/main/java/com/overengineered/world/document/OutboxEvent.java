@@ -0,0 +1,63 @@
+package com.overengineered.world.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * MongoDB document holding an event that still has to be, or has been, published to Kafka.
+ * Events are appended on the request path and published by the outbox relay, so a slow
+ * Kafka never holds up a request and never loses an event.
+ */
+@Document(collection = "outbox")
+@CompoundIndex(name = "pending_in_order", def = "{'deliveredAt': 1, 'deadLetteredAt': 1, '_id': 1}")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    private String id;
+
+    private String topic;
+
+    private String key;
+
+    /**
+     * The Kafka record value, already serialized as JSON.
+     */
+    private String payload;
+
+    private Instant createdAt;
+
+    /**
+     * When the event was acknowledged by Kafka; null while the event is pending.
+     * Delivered events are removed by MongoDB once the TTL has passed.
+     */
+    @Indexed(name = "delivered_ttl", expireAfterSeconds = 86400)
+    private Instant deliveredAt;
+
+    /**
+     * Number of failed sends so far.
+     */
+    private int attempts;
+
+    /**
+     * When the relay gave up on the event after too many failed sends; null while the event is retried.
+     * Dead-lettered events are kept for inspection and are not removed by the TTL index.
+     */
+    private Instant deadLetteredAt;
+
+    /**
+     * The error of the last failed send.
+     */
+    private String lastError;
+}
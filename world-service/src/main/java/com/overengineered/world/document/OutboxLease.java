@@ -0,0 +1,34 @@
+package com.overengineered.world.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * MongoDB document recording which instance currently runs the outbox relay.
+ * Only the holder of an unexpired lease reads and sends pending events, so replicas do not send
+ * the same events and events with the same key are sent by one instance in order.
+ */
+@Document(collection = "outbox_lease")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxLease {
+
+    @Id
+    private String id;
+
+    /**
+     * The instance holding the lease.
+     */
+    private String lockedBy;
+
+    /**
+     * When the lease expires unless the holder renews it.
+     */
+    private Instant lockedUntil;
+}
@@ -8,6 +8,8 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -19,6 +21,14 @@ import java.util.UUID;
  * Instead of a simple string, we've made it a full-fledged document with numerous properties.
  */
 @Document(collection = "world_entities")
+@CompoundIndexes({
+        @CompoundIndex(name = "language_planet_active_priority",
+                def = "{'language': 1, 'planetType': 1, 'isActive': 1, 'priority': -1}"),
+        @CompoundIndex(name = "language_scope_active_priority",
+                def = "{'language': 1, 'geographicalScope': 1, 'isActive': 1, 'priority': -1}"),
+        @CompoundIndex(name = "priority_id", def = "{'priority': -1, '_id': 1}"),
+        @CompoundIndex(name = "language_priority_id", def = "{'language': 1, 'priority': -1, '_id': 1}")
+})
 @Data
 @Builder
 @NoArgsConstructor
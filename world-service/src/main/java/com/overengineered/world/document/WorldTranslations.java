@@ -0,0 +1,70 @@
+package com.overengineered.world.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * MongoDB document holding every translation of one (planetType, geographicalScope) combination.
+ * Alternative to storing one {@link WorldEntity} per language: a multi-language page needs a single
+ * document and a single index entry instead of one per language.
+ */
+@Document(collection = "world_translations")
+@CompoundIndex(name = "planet_scope", def = "{'planetType': 1, 'geographicalScope': 1}", unique = true)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorldTranslations {
+
+    /**
+     * Language codes are the keys of {@link #translations} and become part of field paths,
+     * so anything that is not a plain code is rejected.
+     */
+    public static final Pattern LANGUAGE_CODE = Pattern.compile("[A-Za-z]{2,8}(-[A-Za-z0-9]{1,8})*");
+
+    @Id
+    private String id;
+
+    private WorldEntity.PlanetType planetType;
+
+    private WorldEntity.GeographicalScope geographicalScope;
+
+    /**
+     * Translations keyed by language code.
+     */
+    @Builder.Default
+    private Map<String, Translation> translations = new HashMap<>();
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    /**
+     * A single translation embedded in the document.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Translation {
+
+        private String text;
+
+        private Integer priority;
+
+        /**
+         * UUID of the WorldEntity this translation was migrated from, if any.
+         */
+        private String sourceUuid;
+    }
+}
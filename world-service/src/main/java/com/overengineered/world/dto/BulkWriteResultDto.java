@@ -0,0 +1,47 @@
+package com.overengineered.world.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the outcome of a bulk write.
+ * Failed entries are reported individually and do not abort the rest of the batch.
+ */
+@Data
+@NoArgsConstructor
+public class BulkWriteResultDto {
+
+    private int received;
+    private int inserted;
+    private int updated;
+    private int failed;
+    private List<ItemError> errors = new ArrayList<>();
+
+    /**
+     * Record a failed entry.
+     *
+     * @param index The zero-based position of the entry in the request
+     * @param uuid The UUID of the entry, if known
+     * @param message Why the entry failed
+     */
+    public void addError(int index, String uuid, String message) {
+        failed++;
+        errors.add(new ItemError(index, uuid, message));
+    }
+
+    /**
+     * A single failed entry.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemError {
+        private int index;
+        private String uuid;
+        private String message;
+    }
+}
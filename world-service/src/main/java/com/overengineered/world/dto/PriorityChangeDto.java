@@ -0,0 +1,41 @@
+package com.overengineered.world.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.AssertTrue;
+
+/**
+ * Data Transfer Object for a priority change applied atomically in Mongo.
+ * Either sets the priority to a value or adds a delta to it, but not both.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PriorityChangeDto {
+
+    /**
+     * ID of the world entity; required by the bulk reorder, where the ID is not part of the path.
+     */
+    private String id;
+
+    /**
+     * New priority.
+     */
+    private Integer priority;
+
+    /**
+     * Amount to add to the current priority.
+     */
+    private Integer delta;
+
+    @AssertTrue(message = "Exactly one of priority and delta is required")
+    private boolean isExactlyOneChange() {
+        return (priority == null) != (delta == null);
+    }
+}
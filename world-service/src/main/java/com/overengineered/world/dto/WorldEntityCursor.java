@@ -0,0 +1,80 @@
+package com.overengineered.world.dto;
+
+import com.overengineered.world.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a world entity listing ordered by priority (highest first) and then by id.
+ * Encoded as an opaque URL-safe string, so clients pass it back without interpreting it.
+ */
+@Data
+@AllArgsConstructor
+public class WorldEntityCursor {
+
+    private static final String NULL_PRIORITY = "-";
+
+    /**
+     * Priority of the last returned entity; null for entities without a priority, which are listed last.
+     */
+    private Integer priority;
+
+    /**
+     * ID of the last returned entity.
+     */
+    private String id;
+
+    /**
+     * Create the cursor that points just past a summary.
+     *
+     * @param summary The last returned summary
+     * @return The cursor
+     */
+    public static WorldEntityCursor after(WorldEntitySummaryDto summary) {
+        return new WorldEntityCursor(summary.getPriority(), summary.getId());
+    }
+
+    /**
+     * Decode a cursor previously returned by {@link #encode()}.
+     *
+     * @param value The encoded cursor, or null for the first page
+     * @return The cursor, or null for the first page
+     * @throws InvalidCursorException if the value is not a valid cursor
+     */
+    public static WorldEntityCursor decode(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + value, e);
+        }
+
+        int separator = decoded.indexOf(':');
+        if (separator <= 0 || separator == decoded.length() - 1) {
+            throw new InvalidCursorException("Invalid cursor: " + value);
+        }
+        String priority = decoded.substring(0, separator);
+        try {
+            return new WorldEntityCursor(NULL_PRIORITY.equals(priority) ? null : Integer.valueOf(priority),
+                    decoded.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Invalid cursor: " + value, e);
+        }
+    }
+
+    /**
+     * Encode the cursor for a response.
+     *
+     * @return The opaque cursor string
+     */
+    public String encode() {
+        String raw = (priority != null ? priority.toString() : NULL_PRIORITY) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,48 @@
+package com.overengineered.world.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the world entity count matrix.
+ * Contains one entry per (language, planetType, geographicalScope, isActive) combination that has entities.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorldEntityStatisticsDto {
+
+    /**
+     * When the counts were last fully recomputed; incremental updates since then are included.
+     */
+    private Instant computedAt;
+
+    /**
+     * Whether the counts are being kept up to date from a change stream, as opposed to periodic recomputation only.
+     */
+    private boolean live;
+
+    private long total;
+
+    private List<Entry> entries;
+
+    /**
+     * Count for a single combination.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private String language;
+        private String planetType;
+        private String geographicalScope;
+        private Boolean isActive;
+        private long count;
+    }
+}
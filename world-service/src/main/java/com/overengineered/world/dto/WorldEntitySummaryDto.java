@@ -0,0 +1,26 @@
+package com.overengineered.world.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.overengineered.world.document.WorldEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object with the few WorldEntity fields that listings need.
+ * Also used as a DTO projection, so Mongo only returns these fields.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorldEntitySummaryDto {
+
+    private String id;
+    private String language;
+    private WorldEntity.PlanetType planetType;
+    private String text;
+    private Integer priority;
+}
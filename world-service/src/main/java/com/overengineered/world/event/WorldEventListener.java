@@ -1,9 +1,8 @@
 package com.overengineered.world.event;
 
-import lombok.RequiredArgsConstructor;
+import com.overengineered.world.config.AsyncConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
@@ -14,13 +13,12 @@ import java.time.format.DateTimeFormatter;
 /**
  * Listener for WorldGeneratedEvent.
  * Demonstrates the Observer Pattern by listening to events and performing actions.
+ * Publishing to Kafka is done through the outbox, see {@link WorldEventOutboxRelay}.
  */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class WorldEventListener {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
     private final DateTimeFormatter formatter = DateTimeFormatter.ISO_INSTANT.withZone(ZoneId.systemDefault());
 
     /**
@@ -29,7 +27,7 @@ public class WorldEventListener {
      * @param event The WorldGeneratedEvent
      */
     @EventListener
-    @Async
+    @Async(AsyncConfig.WORLD_EVENT_EXECUTOR)
     public void handleWorldGeneratedEvent(WorldGeneratedEvent event) {
         log.info("World event received: {} in language {} for planet {} with scope {} using strategy {} at {}",
                 event.getText(),
@@ -38,21 +36,5 @@ public class WorldEventListener {
                 event.getScope(),
                 event.getStrategyUsed(),
                 formatter.format(Instant.ofEpochMilli(event.getTimestamp())));
-        
-        // Send event to Kafka topic
-        try {
-            String message = String.format("{\"text\":\"%s\",\"language\":\"%s\",\"planetType\":\"%s\",\"scope\":\"%s\",\"strategy\":\"%s\",\"timestamp\":%d}",
-                    event.getText(), 
-                    event.getLanguage(), 
-                    event.getPlanetType(),
-                    event.getScope(),
-                    event.getStrategyUsed(),
-                    event.getTimestamp());
-            
-            kafkaTemplate.send("world-events", message);
-            log.debug("Event sent to Kafka topic 'world-events'");
-        } catch (Exception e) {
-            log.error("Failed to send event to Kafka", e);
-        }
     }
 }
@@ -0,0 +1,63 @@
+package com.overengineered.world.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overengineered.world.document.OutboxEvent;
+import com.overengineered.world.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Appends world events to the outbox collection.
+ * The append is a single insert of a small document; publishing to Kafka is left to {@link WorldEventOutboxRelay}.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorldEventOutbox {
+
+    static final String TOPIC = "world-events";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Append a WorldGeneratedEvent to the outbox.
+     *
+     * @param event The event to append
+     */
+    public void append(WorldGeneratedEvent event) {
+        outboxEventRepository.insert(toOutboxEvent(event));
+    }
+
+    /**
+     * Build the outbox document for a WorldGeneratedEvent without storing it.
+     * Used by callers that insert through a different template, such as the reactive stack.
+     *
+     * @param event The event
+     * @return The outbox document
+     */
+    public OutboxEvent toOutboxEvent(WorldGeneratedEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("text", event.getText());
+        payload.put("language", event.getLanguage());
+        payload.put("planetType", event.getPlanetType());
+        payload.put("scope", event.getScope());
+        payload.put("strategy", event.getStrategyUsed());
+        payload.put("timestamp", event.getTimestamp());
+
+        try {
+            return OutboxEvent.builder()
+                    .topic(TOPIC)
+                    .key(event.getLanguage())
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .createdAt(Instant.ofEpochMilli(event.getTimestamp()))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize world event for the outbox", e);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.overengineered.world.event;
+
+import com.overengineered.world.document.OutboxEvent;
+import com.overengineered.world.document.OutboxLease;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes pending outbox events to Kafka and marks them delivered.
+ * Only the instance holding the relay lease publishes, so replicas do not send the same events.
+ * Each batch is sent before waiting for acknowledgements, so the producer can batch and compress the records,
+ * then all acknowledged events are marked with one update.
+ * When an event fails, the later events with the same key are held back until it is delivered, so consumers
+ * always end up seeing a key's events in order. An event that keeps failing is dead-lettered after
+ * {@code max-attempts} sends and stops holding back its key.
+ * Delivery is at least once: an event whose acknowledgement is lost, or that was sent after a failed event
+ * of the same key, is sent again on the next poll.
+ */
+@Component
+@Slf4j
+public class WorldEventOutboxRelay {
+
+    static final String LEASE_ID = "world-event-outbox-relay";
+
+    private final MongoTemplate mongoTemplate;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final long leaseMs;
+    private final int maxAttempts;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter deadLettered;
+
+    public WorldEventOutboxRelay(MongoTemplate mongoTemplate,
+                                 KafkaTemplate<String, String> kafkaTemplate,
+                                 @Value("${world.event.outbox.batch-size:500}") int batchSize,
+                                 @Value("${world.event.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+                                 @Value("${world.event.outbox.lease-ms:30000}") long leaseMs,
+                                 @Value("${world.event.outbox.max-attempts:10}") int maxAttempts,
+                                 MeterRegistry meterRegistry) {
+        if (leaseMs <= sendTimeoutMs) {
+            throw new IllegalArgumentException("world.event.outbox.lease-ms must exceed send-timeout-ms");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.leaseMs = leaseMs;
+        this.maxAttempts = maxAttempts;
+        this.delivered = Counter.builder("world.outbox.delivered")
+                .description("Number of outbox events acknowledged by Kafka")
+                .register(meterRegistry);
+        this.failed = Counter.builder("world.outbox.failed")
+                .description("Number of outbox event sends that failed and will be retried")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("world.outbox.dead.lettered")
+                .description("Number of outbox events given up on after too many failed sends")
+                .register(meterRegistry);
+        Gauge.builder("world.outbox.pending", pending, AtomicLong::get)
+                .description("Number of outbox events left pending after the last relay pass; "
+                        + "zero on instances not holding the relay lease")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Relay pending events in ID order until the outbox has been read to the end.
+     * The lease is renewed before every batch; if it is lost, the pass stops and the new holder continues.
+     */
+    @Scheduled(fixedDelayString = "${world.event.outbox.poll-interval-ms:500}")
+    public void relay() {
+        if (!acquireLease()) {
+            pending.set(0);
+            return;
+        }
+
+        Set<String> blockedKeys = new HashSet<>();
+        long remaining = 0;
+        ObjectId after = null;
+        while (true) {
+            List<OutboxEvent> batch = findPending(after);
+            remaining += publish(batch, blockedKeys);
+            if (batch.size() < batchSize) {
+                break;
+            }
+            after = new ObjectId(batch.get(batch.size() - 1).getId());
+            if (!acquireLease()) {
+                log.info("Lost the outbox relay lease, stopping this pass");
+                pending.set(0);
+                return;
+            }
+        }
+        pending.set(remaining);
+    }
+
+    /**
+     * Take or renew the relay lease with a single upsert. If another instance holds an unexpired lease,
+     * the upsert tries to insert a second lease document and fails on the duplicate ID.
+     *
+     * @return Whether this instance holds the lease
+     */
+    private boolean acquireLease() {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("_id").is(LEASE_ID)
+                .orOperator(Criteria.where("lockedUntil").lt(now), Criteria.where("lockedBy").is(instanceId)));
+        Update update = new Update()
+                .set("lockedBy", instanceId)
+                .set("lockedUntil", now.plusMillis(leaseMs));
+        try {
+            mongoTemplate.upsert(query, update, OutboxLease.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Read the next batch of pending events.
+     *
+     * @param after The ID of the last event of the previous batch, or null for the first batch
+     * @return Pending events, oldest first
+     */
+    private List<OutboxEvent> findPending(ObjectId after) {
+        Criteria criteria = Criteria.where("deliveredAt").is(null).and("deadLetteredAt").is(null);
+        if (after != null) {
+            criteria = criteria.and("_id").gt(after);
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(batchSize);
+        return mongoTemplate.find(query, OutboxEvent.class);
+    }
+
+    /**
+     * Send one batch, wait for the acknowledgements and record the outcome.
+     * Events whose key is blocked by an earlier failure are not sent, or not marked delivered if they were.
+     *
+     * @param batch The pending events
+     * @param blockedKeys Keys with a failed event in this pass; updated with the keys that fail in this batch
+     * @return The number of events of the batch that are still pending
+     */
+    private int publish(List<OutboxEvent> batch, Set<String> blockedKeys) {
+        List<OutboxEvent> sent = new ArrayList<>(batch.size());
+        List<ListenableFuture<SendResult<String, String>>> sends = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            if (!blockedKeys.contains(event.getKey())) {
+                sent.add(event);
+                sends.add(kafkaTemplate.send(event.getTopic(), event.getKey(), event.getPayload()));
+            }
+        }
+        kafkaTemplate.flush();
+
+        int remaining = batch.size() - sent.size();
+        List<String> deliveredIds = new ArrayList<>(sent.size());
+        List<Pair<Query, Update>> failures = new ArrayList<>();
+        Instant now = Instant.now();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (int i = 0; i < sent.size(); i++) {
+            OutboxEvent event = sent.get(i);
+            String error = null;
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                error = String.valueOf(e.getCause());
+            } catch (TimeoutException e) {
+                error = "No acknowledgement within " + sendTimeoutMs + "ms";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error = "Interrupted while waiting for the acknowledgement";
+            }
+
+            if (blockedKeys.contains(event.getKey())) {
+                // Sent before an earlier event of the same key failed; resent after it on the next poll
+                remaining++;
+            } else if (error == null) {
+                deliveredIds.add(event.getId());
+            } else {
+                failures.add(failure(event, error, now));
+                if (event.getAttempts() + 1 < maxAttempts) {
+                    blockedKeys.add(event.getKey());
+                    remaining++;
+                }
+            }
+        }
+
+        if (!deliveredIds.isEmpty()) {
+            mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(deliveredIds)),
+                    new Update().set("deliveredAt", now), OutboxEvent.class);
+            delivered.increment(deliveredIds.size());
+        }
+        if (!failures.isEmpty()) {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OutboxEvent.class)
+                    .updateOne(failures)
+                    .execute();
+            log.warn("Failed to deliver {} of {} outbox events to Kafka", failures.size(), batch.size());
+        }
+        return remaining;
+    }
+
+    /**
+     * Build the update recording a failed send, dead-lettering the event if it has no attempts left.
+     *
+     * @param event The event
+     * @param error The send error
+     * @param now The current time
+     * @return The query and update for the event
+     */
+    private Pair<Query, Update> failure(OutboxEvent event, String error, Instant now) {
+        Update update = new Update().inc("attempts", 1).set("lastError", error);
+        if (event.getAttempts() + 1 >= maxAttempts) {
+            update.set("deadLetteredAt", now);
+            deadLettered.increment();
+            log.error("Dead-lettering outbox event {} for key {} after {} attempts: {}",
+                    event.getId(), event.getKey(), event.getAttempts() + 1, error);
+        } else {
+            failed.increment();
+        }
+        return Pair.of(Query.query(Criteria.where("_id").is(event.getId())), update);
+    }
+}
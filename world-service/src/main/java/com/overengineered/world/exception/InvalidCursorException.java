@@ -0,0 +1,15 @@
+package com.overengineered.world.exception;
+
+/**
+ * Exception thrown when a pagination cursor sent by a client cannot be decoded.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
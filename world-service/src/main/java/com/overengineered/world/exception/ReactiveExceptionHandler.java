@@ -0,0 +1,100 @@
+package com.overengineered.world.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * WebFlux counterpart of {@link GlobalExceptionHandler}.
+ * Produces the same error responses when the service runs as a reactive web application.
+ */
+@ControllerAdvice
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    /**
+     * Handle WorldEntityNotFoundException.
+     *
+     * @param ex The exception
+     * @param request The HTTP request in which the exception was thrown
+     * @return ResponseEntity containing error details
+     */
+    @ExceptionHandler(WorldEntityNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleWorldEntityNotFoundException(
+            WorldEntityNotFoundException ex,
+            ServerHttpRequest request) {
+        
+        log.error("World entity not found: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                ex.getMessage(),
+                request.getPath().value()
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+    
+    /**
+     * Handle validation exceptions.
+     *
+     * @param ex The exception
+     * @param request The HTTP request in which the exception was thrown
+     * @return ResponseEntity containing validation error details
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(
+            WebExchangeBindException ex,
+            ServerHttpRequest request) {
+        
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach(error -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+        
+        log.error("Validation error: {}", errors);
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Validation Error",
+                errors.toString(),
+                request.getPath().value()
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+    
+    /**
+     * Handle all other exceptions.
+     *
+     * @param ex The exception
+     * @param request The HTTP request in which the exception was thrown
+     * @return ResponseEntity containing error details
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleAllExceptions(
+            Exception ex,
+            ServerHttpRequest request) {
+        
+        log.error("Unexpected error: ", ex);
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                "Internal Server Error",
+                "An unexpected error occurred: " + ex.getMessage(),
+                request.getPath().value()
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -2,23 +2,57 @@ package com.overengineered.world.factory;
 
 import com.overengineered.world.document.WorldEntity;
 import com.overengineered.world.strategy.WorldGenerationStrategy;
+import com.overengineered.world.strategy.WorldTextTable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import java.util.List;
 
 /**
  * Factory class for selecting the appropriate WorldGenerationStrategy.
  * This demonstrates the Factory Pattern, which is completely unnecessary for this simple task.
+ * Since every selection input is small and finite, the selection for every combination is
+ * precomputed into a dense dispatch array.
  */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class WorldStrategyFactory {
 
+    private static final WorldEntity.PlanetType[] PLANET_TYPES = WorldEntity.PlanetType.values();
+    private static final WorldEntity.GeographicalScope[] SCOPES = WorldEntity.GeographicalScope.values();
+
     private final List<WorldGenerationStrategy> strategies;
 
+    // Indexed by [languageId][planetType.ordinal()][scope.ordinal()]
+    private volatile WorldGenerationStrategy[][][] dispatch;
+
+    /**
+     * Precompute the selected strategy for every (language, planet type, scope) combination.
+     * Called at startup and whenever the application context is refreshed.
+     */
+    @PostConstruct
+    @EventListener(ContextRefreshedEvent.class)
+    public void rebuild() {
+        WorldGenerationStrategy[][][] table =
+                new WorldGenerationStrategy[WorldTextTable.LANGUAGE_COUNT][PLANET_TYPES.length][SCOPES.length];
+        for (int languageId = 0; languageId < WorldTextTable.LANGUAGE_COUNT; languageId++) {
+            String language = WorldTextTable.languageCode(languageId);
+            for (WorldEntity.PlanetType planetType : PLANET_TYPES) {
+                for (WorldEntity.GeographicalScope scope : SCOPES) {
+                    table[languageId][planetType.ordinal()][scope.ordinal()] = select(language, planetType, scope);
+                }
+            }
+        }
+        dispatch = table;
+        log.info("Built world strategy dispatch table for {} strategies and {} combinations",
+                strategies.size(), WorldTextTable.LANGUAGE_COUNT * PLANET_TYPES.length * SCOPES.length);
+    }
+
     /**
      * Select the appropriate strategy based on context parameters.
      *
@@ -28,7 +62,24 @@ public class WorldStrategyFactory {
      * @return The selected strategy
      */
     public WorldGenerationStrategy getStrategy(String language, WorldEntity.PlanetType planetType, WorldEntity.GeographicalScope scope) {
-        log.info("Selecting world strategy for language: {}, planet type: {}, scope: {}", language, planetType, scope);
+        int languageId = WorldTextTable.languageId(language);
+        if (languageId < 0 || planetType == null || scope == null) {
+            // Combinations outside the table are evaluated on the fly
+            return select(language, planetType, scope);
+        }
+        return dispatch[languageId][planetType.ordinal()][scope.ordinal()];
+    }
+
+    /**
+     * Evaluate every strategy for the given context and pick one.
+     *
+     * @param language The language code
+     * @param planetType The planet type
+     * @param scope The geographical scope
+     * @return The selected strategy
+     */
+    private WorldGenerationStrategy select(String language, WorldEntity.PlanetType planetType, WorldEntity.GeographicalScope scope) {
+        log.debug("Selecting world strategy for language: {}, planet type: {}, scope: {}", language, planetType, scope);
         
         // Find all applicable strategies
         List<WorldGenerationStrategy> applicableStrategies = strategies.stream()
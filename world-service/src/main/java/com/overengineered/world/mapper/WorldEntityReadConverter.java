@@ -0,0 +1,67 @@
+package com.overengineered.world.mapper;
+
+import com.overengineered.world.document.WorldEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hand-written converter from a Mongo document to WorldEntity.
+ * Reads fields by name into the builder, with enum constants resolved through cached lookup tables,
+ * instead of going through property accessors and reflection for every field.
+ */
+@ReadingConverter
+public class WorldEntityReadConverter implements Converter<Document, WorldEntity> {
+
+    private static final Map<String, WorldEntity.PlanetType> PLANET_TYPES = lookup(WorldEntity.PlanetType.values());
+    private static final Map<String, WorldEntity.Continent> CONTINENTS = lookup(WorldEntity.Continent.values());
+    private static final Map<String, WorldEntity.GeographicalScope> SCOPES = lookup(WorldEntity.GeographicalScope.values());
+
+    @Override
+    public WorldEntity convert(Document source) {
+        Object id = source.get("_id");
+        return WorldEntity.builder()
+                .id(id instanceof ObjectId ? ((ObjectId) id).toHexString() : (String) id)
+                .uuid(source.getString("uuid"))
+                .language(source.getString("language"))
+                .text(source.getString("text"))
+                .isActive(source.getBoolean("isActive"))
+                .priority(toInteger(source.get("priority")))
+                .createdAt(toLocalDateTime(source.getDate("createdAt")))
+                .updatedAt(toLocalDateTime(source.getDate("updatedAt")))
+                .version(toLong(source.get("version")))
+                .description(source.getString("description"))
+                .planetType(PLANET_TYPES.get(source.getString("planetType")))
+                .continent(CONTINENTS.get(source.getString("continent")))
+                .geographicalScope(SCOPES.get(source.getString("geographicalScope")))
+                .build();
+    }
+
+    private static <E extends Enum<E>> Map<String, E> lookup(E[] values) {
+        Map<String, E> lookup = new HashMap<>();
+        for (E value : values) {
+            lookup.put(value.name(), value);
+        }
+        return lookup;
+    }
+
+    // Numbers may be stored as int32 or int64 depending on who wrote the document
+    private static Integer toInteger(Object value) {
+        return value != null ? ((Number) value).intValue() : null;
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Date value) {
+        return value != null ? LocalDateTime.ofInstant(value.toInstant(), ZoneId.systemDefault()) : null;
+    }
+}
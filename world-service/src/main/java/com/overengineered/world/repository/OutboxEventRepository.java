@@ -0,0 +1,14 @@
+package com.overengineered.world.repository;
+
+import com.overengineered.world.document.OutboxEvent;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for accessing the world event outbox.
+ * Pending events are read by {@link com.overengineered.world.event.WorldEventOutboxRelay} through MongoTemplate,
+ * since it pages through them by ID while it holds the relay lease.
+ */
+@Repository
+public interface OutboxEventRepository extends MongoRepository<OutboxEvent, String> {
+}
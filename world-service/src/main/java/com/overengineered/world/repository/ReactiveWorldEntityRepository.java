@@ -0,0 +1,22 @@
+package com.overengineered.world.repository;
+
+import com.overengineered.world.document.WorldEntity;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository for accessing the WorldEntity documents.
+ * Only used when the "reactive" profile is active.
+ */
+@Repository
+public interface ReactiveWorldEntityRepository extends ReactiveMongoRepository<WorldEntity, String> {
+
+    /**
+     * Find a world entity by its UUID.
+     *
+     * @param uuid The UUID of the world entity
+     * @return Mono emitting the found entity, or empty
+     */
+    Mono<WorldEntity> findByUuid(String uuid);
+}
@@ -0,0 +1,21 @@
+package com.overengineered.world.repository;
+
+/**
+ * Closed projection of a WorldEntity that only exposes the keys it is cached under.
+ */
+public interface WorldEntityKeysProjection {
+
+    /**
+     * Get the ID of the world entity.
+     *
+     * @return The ID
+     */
+    String getId();
+
+    /**
+     * Get the UUID of the world entity.
+     *
+     * @return The UUID
+     */
+    String getUuid();
+}
@@ -5,6 +5,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +14,7 @@ import java.util.Optional;
  * Even though we only need to retrieve a simple string, we've added complex queries.
  */
 @Repository
-public interface WorldEntityRepository extends MongoRepository<WorldEntity, String> {
+public interface WorldEntityRepository extends MongoRepository<WorldEntity, String>, WorldEntityRepositoryCustom {
 
     /**
      * Find a world entity by its UUID.
@@ -32,16 +33,38 @@ public interface WorldEntityRepository extends MongoRepository<WorldEntity, Stri
     List<WorldEntity> findByLanguageAndIsActiveOrderByPriorityDesc(String language, Boolean isActive);
 
     /**
-     * Find the world entity with the highest priority for a specific language and planet type.
+     * Find all active world entities for a specific language and planet type, highest priority first.
+     * Served by the language_planet_active_priority index.
      *
      * @param language The language code
      * @param planetType The planet type
-     * @return Optional containing the highest priority world entity
+     * @return List of active world entities ordered by priority
      */
-    @Query("{'language': ?0, 'planetType': ?1, 'isActive': true}")
+    @Query(value = "{'language': ?0, 'planetType': ?1, 'isActive': true}", sort = "{'priority': -1}")
     List<WorldEntity> findByLanguageAndPlanetTypeAndActiveOrderByPriorityDesc(String language, 
                                                                            WorldEntity.PlanetType planetType);
 
+    /**
+     * Find the world entity with the highest priority for a specific language and planet type.
+     *
+     * @param language The language code
+     * @param planetType The planet type
+     * @return Optional containing the highest priority world entity
+     */
+    Optional<WorldEntity> findFirstByLanguageAndPlanetTypeAndIsActiveTrueOrderByPriorityDesc(
+            String language, WorldEntity.PlanetType planetType);
+
+    /**
+     * Find only the text of the highest priority world entity for a specific language and planet type.
+     * Intended for the generation hot path: the sort and limit run in Mongo and only the text field is returned.
+     *
+     * @param language The language code
+     * @param planetType The planet type
+     * @return Optional containing the text projection
+     */
+    Optional<WorldTextProjection> findTextFirstByLanguageAndPlanetTypeAndIsActiveTrueOrderByPriorityDesc(
+            String language, WorldEntity.PlanetType planetType);
+
     /**
      * Find the world entity with the highest priority for a specific language and geographical scope.
      *
@@ -52,6 +75,24 @@ public interface WorldEntityRepository extends MongoRepository<WorldEntity, Stri
     Optional<WorldEntity> findFirstByLanguageAndGeographicalScopeAndIsActiveTrueOrderByPriorityDesc(
             String language, WorldEntity.GeographicalScope scope);
 
+    /**
+     * Find only the text of the highest priority world entity for a specific language and geographical scope.
+     *
+     * @param language The language code
+     * @param scope The geographical scope
+     * @return Optional containing the text projection
+     */
+    Optional<WorldTextProjection> findTextFirstByLanguageAndGeographicalScopeAndIsActiveTrueOrderByPriorityDesc(
+            String language, WorldEntity.GeographicalScope scope);
+
+    /**
+     * Find the cache keys of a set of world entities without loading the documents.
+     *
+     * @param ids The IDs of the world entities
+     * @return List of key projections for the entities that exist
+     */
+    List<WorldEntityKeysProjection> findKeysByIdIn(Collection<String> ids);
+
     /**
      * Count the number of world entities for a specific language.
      *
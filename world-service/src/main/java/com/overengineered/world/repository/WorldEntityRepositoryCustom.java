@@ -0,0 +1,59 @@
+package com.overengineered.world.repository;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.dto.PriorityChangeDto;
+import com.overengineered.world.dto.WorldEntityCursor;
+import com.overengineered.world.dto.WorldEntitySummaryDto;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository operations for WorldEntity that are not expressible as derived queries.
+ */
+public interface WorldEntityRepositoryCustom {
+
+    /**
+     * Upsert world entities by UUID in a single unordered bulk write.
+     * Only non-null fields are written, so existing fields are kept when the entity leaves them out.
+     *
+     * @param entities The entities to upsert; each must have a UUID
+     * @return The result of the bulk write
+     * @throws org.springframework.data.mongodb.BulkOperationException if some of the writes failed;
+     *         the other writes are still applied
+     */
+    BulkWriteResult upsertAllByUuid(List<WorldEntity> entities);
+
+    /**
+     * Stream world entity summaries ordered by priority (highest first, missing priorities last) and then by id.
+     * Only the summary fields are fetched, and the listing resumes after the cursor without skipping documents.
+     * The caller must close the stream.
+     *
+     * @param language The language to filter by, or null for all languages
+     * @param after The cursor of the last entity of the previous page, or null for the first page
+     * @param limit The maximum number of summaries
+     * @return Stream of summaries
+     */
+    Stream<WorldEntitySummaryDto> streamSummaries(String language, WorldEntityCursor after, int limit);
+
+    /**
+     * Atomically set or increment the priority of a world entity in a single findAndModify.
+     * The version is incremented as well, so concurrent full updates still detect the change.
+     *
+     * @param id The ID of the world entity
+     * @param priority The new priority, or null to increment instead
+     * @param delta The amount to add to the priority; ignored when priority is set
+     * @return Optional containing the updated entity, or empty if there is no entity with the ID
+     */
+    Optional<WorldEntity> adjustPriority(String id, Integer priority, Integer delta);
+
+    /**
+     * Apply priority changes to many world entities in a single unordered bulk write.
+     *
+     * @param changes The changes, each with an ID
+     * @return The result of the bulk write
+     */
+    BulkWriteResult applyPriorityChanges(List<PriorityChangeDto> changes);
+}
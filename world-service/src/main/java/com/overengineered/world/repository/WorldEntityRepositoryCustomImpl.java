@@ -0,0 +1,129 @@
+package com.overengineered.world.repository;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.dto.PriorityChangeDto;
+import com.overengineered.world.dto.WorldEntityCursor;
+import com.overengineered.world.dto.WorldEntitySummaryDto;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate-based implementation of {@link WorldEntityRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class WorldEntityRepositoryCustomImpl implements WorldEntityRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public BulkWriteResult upsertAllByUuid(List<WorldEntity> entities) {
+        Date now = new Date();
+        List<Pair<Query, Update>> upserts = new ArrayList<>(entities.size());
+        for (WorldEntity entity : entities) {
+            upserts.add(Pair.of(Query.query(Criteria.where("uuid").is(entity.getUuid())), toUpdate(entity, now)));
+        }
+
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WorldEntity.class)
+                .upsert(upserts)
+                .execute();
+    }
+
+    @Override
+    public Stream<WorldEntitySummaryDto> streamSummaries(String language, WorldEntityCursor after, int limit) {
+        Criteria criteria = new Criteria();
+        if (language != null) {
+            criteria = criteria.and("language").is(language);
+        }
+        if (after != null) {
+            criteria = criteria.andOperator(after.getPriority() != null
+                    ? new Criteria().orOperator(
+                            Criteria.where("priority").lt(after.getPriority()),
+                            Criteria.where("priority").is(after.getPriority()).and("_id").gt(toObjectId(after.getId())),
+                            Criteria.where("priority").is(null))
+                    : Criteria.where("priority").is(null).and("_id").gt(toObjectId(after.getId())));
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Order.desc("priority"), Sort.Order.asc("_id")))
+                .limit(limit);
+
+        return mongoTemplate.query(WorldEntity.class)
+                .as(WorldEntitySummaryDto.class)
+                .matching(query)
+                .stream();
+    }
+
+    @Override
+    public Optional<WorldEntity> adjustPriority(String id, Integer priority, Integer delta) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(id)),
+                priorityUpdate(priority, delta, new Date()),
+                FindAndModifyOptions.options().returnNew(true),
+                WorldEntity.class));
+    }
+
+    @Override
+    public BulkWriteResult applyPriorityChanges(List<PriorityChangeDto> changes) {
+        Date now = new Date();
+        List<Pair<Query, Update>> updates = new ArrayList<>(changes.size());
+        for (PriorityChangeDto change : changes) {
+            updates.add(Pair.of(Query.query(Criteria.where("_id").is(change.getId())),
+                    priorityUpdate(change.getPriority(), change.getDelta(), now)));
+        }
+
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WorldEntity.class)
+                .updateOne(updates)
+                .execute();
+    }
+
+    private static Update priorityUpdate(Integer priority, Integer delta, Date now) {
+        Update update = priority != null
+                ? new Update().set("priority", priority)
+                : new Update().inc("priority", delta);
+        return update.set("updatedAt", now).inc("version", 1);
+    }
+
+    private static Object toObjectId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    /**
+     * Build an update that sets every mapped, non-null field of the entity.
+     * Bulk writes bypass the auditing and versioning callbacks, so those fields are maintained here.
+     *
+     * @param entity The entity
+     * @param now The timestamp to use for createdAt and updatedAt
+     * @return The update
+     */
+    private Update toUpdate(WorldEntity entity, Date now) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(entity, document);
+        document.remove("_id");
+        document.remove("createdAt");
+        document.remove("updatedAt");
+        document.remove("version");
+
+        Update update = new Update();
+        document.forEach(update::set);
+        update.set("updatedAt", now);
+        update.setOnInsert("createdAt", now);
+        update.inc("version", 1);
+        return update;
+    }
+}
@@ -0,0 +1,15 @@
+package com.overengineered.world.repository;
+
+/**
+ * Closed projection of a WorldEntity that only exposes its text.
+ * Spring Data turns this into a field projection, so Mongo returns nothing but the text.
+ */
+public interface WorldTextProjection {
+
+    /**
+     * Get the world text.
+     *
+     * @return The world text
+     */
+    String getText();
+}
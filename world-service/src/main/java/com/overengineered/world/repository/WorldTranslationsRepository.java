@@ -0,0 +1,35 @@
+package com.overengineered.world.repository;
+
+import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.document.WorldTranslations;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for accessing the embedded-translations documents.
+ */
+@Repository
+public interface WorldTranslationsRepository extends MongoRepository<WorldTranslations, String>, WorldTranslationsRepositoryCustom {
+
+    /**
+     * Find every translation of a planet type and geographical scope in one indexed read.
+     *
+     * @param planetType The planet type
+     * @param scope The geographical scope
+     * @return Optional containing the document with all languages
+     */
+    Optional<WorldTranslations> findByPlanetTypeAndGeographicalScope(WorldEntity.PlanetType planetType,
+                                                                     WorldEntity.GeographicalScope scope);
+
+    /**
+     * Find the translations of a planet type for every geographical scope.
+     * Served by the prefix of the planet_scope index.
+     *
+     * @param planetType The planet type
+     * @return List of documents, one per geographical scope
+     */
+    List<WorldTranslations> findByPlanetType(WorldEntity.PlanetType planetType);
+}
@@ -0,0 +1,22 @@
+package com.overengineered.world.repository;
+
+import com.overengineered.world.document.WorldEntity;
+
+import java.util.Optional;
+
+/**
+ * Custom repository operations for WorldTranslations that need a dynamic field projection.
+ */
+public interface WorldTranslationsRepositoryCustom {
+
+    /**
+     * Find the text of a single translation.
+     * Only {@code translations.<language>.text} is returned by Mongo, not the other languages.
+     *
+     * @param planetType The planet type
+     * @param scope The geographical scope, or null for the translations without a scope
+     * @param language The language code
+     * @return Optional containing the text, or empty if there is no such translation or the planet type is null
+     */
+    Optional<String> findText(WorldEntity.PlanetType planetType, WorldEntity.GeographicalScope scope, String language);
+}
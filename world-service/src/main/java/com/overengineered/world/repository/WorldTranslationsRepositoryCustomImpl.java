@@ -0,0 +1,41 @@
+package com.overengineered.world.repository;
+
+import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.document.WorldTranslations;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Optional;
+
+/**
+ * MongoTemplate-based implementation of {@link WorldTranslationsRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class WorldTranslationsRepositoryCustomImpl implements WorldTranslationsRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<String> findText(WorldEntity.PlanetType planetType, WorldEntity.GeographicalScope scope, String language) {
+        if (planetType == null || language == null || !WorldTranslations.LANGUAGE_CODE.matcher(language).matches()) {
+            return Optional.empty();
+        }
+
+        // Enums are stored by name; pass the names since the query is not mapped against the entity
+        Query query = Query.query(Criteria.where("planetType").is(planetType.name())
+                .and("geographicalScope").is(scope != null ? scope.name() : null));
+        query.fields().include("translations." + language + ".text").exclude("_id");
+
+        Document document = mongoTemplate.findOne(query, Document.class,
+                mongoTemplate.getCollectionName(WorldTranslations.class));
+        if (document == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(document.get("translations", Document.class))
+                .map(translations -> translations.get(language, Document.class))
+                .map(translation -> translation.getString("text"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.overengineered.world.service;
+
+import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.dto.WorldEntityDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link WorldService}.
+ * Defines the same operations, returning publishers instead of values.
+ */
+public interface ReactiveWorldService {
+
+    /**
+     * Get all world entities.
+     *
+     * @return Flux of all world entity DTOs
+     */
+    Flux<WorldEntityDto> getAllWorldEntities();
+
+    /**
+     * Get a world entity by ID.
+     *
+     * @param id The ID of the entity to retrieve
+     * @return Mono emitting the entity, or empty if not found
+     */
+    Mono<WorldEntityDto> getWorldEntityById(String id);
+
+    /**
+     * Save a new world entity.
+     *
+     * @param entityDto The entity DTO to save
+     * @return Mono emitting the saved entity DTO with generated ID
+     */
+    Mono<WorldEntityDto> saveWorldEntity(WorldEntityDto entityDto);
+
+    /**
+     * Update an existing world entity.
+     *
+     * @param id The ID of the entity to update
+     * @param entityDto The updated entity DTO
+     * @return Mono emitting the updated entity DTO
+     */
+    Mono<WorldEntityDto> updateWorldEntity(String id, WorldEntityDto entityDto);
+
+    /**
+     * Delete a world entity by ID.
+     *
+     * @param id The ID of the entity to delete
+     * @return Mono completing when the entity has been deleted
+     */
+    Mono<Void> deleteWorldEntity(String id);
+
+    /**
+     * Generate a world text based on language, planet type, and geographical scope.
+     *
+     * @param language The language code
+     * @param planetType The planet type
+     * @param scope The geographical scope
+     * @return Mono emitting the generated world text
+     */
+    Mono<String> generateWorld(String language, WorldEntity.PlanetType planetType, WorldEntity.GeographicalScope scope);
+}
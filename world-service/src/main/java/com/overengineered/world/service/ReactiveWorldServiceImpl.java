@@ -0,0 +1,136 @@
+package com.overengineered.world.service;
+
+import com.overengineered.world.config.CacheConfig;
+import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.dto.WorldEntityDto;
+import com.overengineered.world.event.WorldEventOutbox;
+import com.overengineered.world.event.WorldGeneratedEvent;
+import com.overengineered.world.exception.WorldEntityNotFoundException;
+import com.overengineered.world.factory.WorldStrategyFactory;
+import com.overengineered.world.mapper.WorldEntityMapper;
+import com.overengineered.world.repository.ReactiveWorldEntityRepository;
+import com.overengineered.world.strategy.WorldGenerationStrategy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Reactive implementation of the world service.
+ * Uses the reactive Mongo repository and a reactive Redis template for the worldEntities cache,
+ * so no request thread is held while waiting on either store.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveWorldServiceImpl implements ReactiveWorldService {
+
+    // Same key layout and TTL as the "worldEntities" cache of the blocking stack
+    private static final String CACHE_PREFIX = CacheConfig.WORLD_ENTITIES_CACHE + "::";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(5);
+
+    private final ReactiveWorldEntityRepository worldEntityRepository;
+    private final WorldEntityMapper worldEntityMapper;
+    private final WorldStrategyFactory worldStrategyFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WorldEventOutbox worldEventOutbox;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final ReactiveRedisTemplate<String, Object> worldEntityReactiveRedisTemplate;
+
+    @Override
+    public Flux<WorldEntityDto> getAllWorldEntities() {
+        log.info("Retrieving all world entities");
+        return worldEntityRepository.findAll(Sort.by(Sort.Direction.DESC, "priority"))
+                .map(worldEntityMapper::toDto);
+    }
+
+    @Override
+    public Mono<WorldEntityDto> getWorldEntityById(String id) {
+        log.info("Retrieving world entity with ID: {}", id);
+        return worldEntityReactiveRedisTemplate.opsForValue().get(CACHE_PREFIX + id)
+                .ofType(WorldEntityDto.class)
+                .onErrorResume(e -> {
+                    log.warn("Failed to read world entity {} from cache: {}", id, e.getMessage());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.defer(() -> worldEntityRepository.findById(id)
+                        .map(worldEntityMapper::toDto)
+                        .flatMap(this::cache)));
+    }
+
+    @Override
+    public Mono<WorldEntityDto> saveWorldEntity(WorldEntityDto entityDto) {
+        log.info("Saving new world entity: {}", entityDto);
+        return worldEntityRepository.save(worldEntityMapper.toEntity(entityDto))
+                .map(worldEntityMapper::toDto)
+                .flatMap(this::cache);
+    }
+
+    @Override
+    public Mono<WorldEntityDto> updateWorldEntity(String id, WorldEntityDto entityDto) {
+        log.info("Updating world entity with ID: {}", id);
+        return worldEntityRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new WorldEntityNotFoundException("World entity not found with ID: " + id)))
+                .map(entity -> worldEntityMapper.updateEntityFromDto(entityDto, entity))
+                .flatMap(worldEntityRepository::save)
+                .map(worldEntityMapper::toDto)
+                .flatMap(this::cache);
+    }
+
+    @Override
+    public Mono<Void> deleteWorldEntity(String id) {
+        log.info("Deleting world entity with ID: {}", id);
+        return worldEntityRepository.existsById(id)
+                .flatMap(exists -> {
+                    if (!exists) {
+                        return Mono.error(new WorldEntityNotFoundException("World entity not found with ID: " + id));
+                    }
+                    return worldEntityRepository.deleteById(id)
+                            .then(worldEntityReactiveRedisTemplate.delete(CACHE_PREFIX + id))
+                            .then();
+                });
+    }
+
+    @Override
+    public Mono<String> generateWorld(String language, WorldEntity.PlanetType planetType, WorldEntity.GeographicalScope scope) {
+        // Strategy selection and generation are pure in-memory work, so they run on the calling thread
+        return Mono.fromSupplier(() -> {
+            log.info("Generating world text in language: {} with planet type: {} and scope: {}",
+                    language, planetType, scope);
+
+            WorldGenerationStrategy strategy = worldStrategyFactory.getStrategy(language, planetType, scope);
+            String worldText = strategy.generateWorld(null, language, planetType);
+            return new WorldGeneratedEvent(this, worldText, language, planetType, scope, strategy.getStrategyName());
+        }).flatMap(event -> reactiveMongoTemplate.insert(worldEventOutbox.toOutboxEvent(event))
+                .doOnSuccess(saved -> eventPublisher.publishEvent(event))
+                .thenReturn(event.getText())
+        ).onErrorResume(e -> {
+            log.warn("Fallback invoked for generateWorld due to: {}", e.getMessage());
+            return Mono.just("World (fallback)");
+        });
+    }
+
+    /**
+     * Write a DTO to the worldEntities cache. Cache failures are logged and do not fail the request.
+     *
+     * @param dto The DTO to cache
+     * @return Mono emitting the same DTO
+     */
+    private Mono<WorldEntityDto> cache(WorldEntityDto dto) {
+        return worldEntityReactiveRedisTemplate.opsForValue().set(CACHE_PREFIX + dto.getId(), dto, CACHE_TTL)
+                .onErrorResume(e -> {
+                    log.warn("Failed to cache world entity {}: {}", dto.getId(), e.getMessage());
+                    return Mono.just(false);
+                })
+                .thenReturn(dto);
+    }
+}
@@ -0,0 +1,321 @@
+package com.overengineered.world.service;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoClientException;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.dto.WorldEntityStatisticsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory matrix of world entity counts per (language, planetType, geographicalScope, isActive).
+ * The matrix is computed with a single aggregation and then kept up to date from a change stream on the
+ * world_entities collection: inserts are counted incrementally, while deletes and updates that touch a
+ * grouping field mark the matrix for recomputation, since the change events do not carry the old values.
+ * Without change streams (for example on a standalone server) the matrix is recomputed periodically.
+ * A full recomputation also runs every refresh interval to correct any drift between the two.
+ * While a change stream is open, the aggregation is a snapshot read (MongoDB 5.0+), and the changes that arrive
+ * during it are buffered and replayed onto the new matrix if they are newer than the snapshot, so no insert is
+ * lost or counted twice. Servers without snapshot reads recompute again whenever changes overlap a recomputation.
+ */
+@Component
+@Slf4j
+public class WorldEntityStatistics {
+
+    private static final Set<String> GROUPING_FIELDS = Set.of("language", "planetType", "geographicalScope", "isActive");
+    private static final List<Bson> PIPELINE = List.of(Aggregates.group(
+            new Document("language", "$language")
+                    .append("planetType", "$planetType")
+                    .append("geographicalScope", "$geographicalScope")
+                    .append("isActive", "$isActive"),
+            Accumulators.sum("count", 1)));
+
+    private final MongoTemplate mongoTemplate;
+    private final long refreshMs;
+    private final long fallbackRefreshMs;
+    private final String collection;
+
+    private volatile Map<List<Object>, AtomicLong> counts = new ConcurrentHashMap<>();
+    private volatile Instant computedAt = Instant.EPOCH;
+    private volatile boolean live;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile boolean running = true;
+    private volatile boolean snapshotReads = true;
+    private volatile long watcherRetryAt;
+    private volatile Thread watcher;
+
+    // Guards counts against the watcher while a recomputation swaps it; pending is non-null during a recomputation
+    private final Object lock = new Object();
+    private List<ChangeStreamDocument<Document>> pending;
+
+    public WorldEntityStatistics(MongoTemplate mongoTemplate,
+                                 @Value("${world.statistics.refresh-ms:600000}") long refreshMs,
+                                 @Value("${world.statistics.fallback-refresh-ms:60000}") long fallbackRefreshMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.refreshMs = refreshMs;
+        this.fallbackRefreshMs = fallbackRefreshMs;
+        this.collection = mongoTemplate.getCollectionName(WorldEntity.class);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        startWatcher();
+        recompute();
+    }
+
+    /**
+     * Restart the watcher if it stopped, then recompute when the matrix was marked dirty or is older than
+     * the refresh interval. The interval is shorter while no change stream is keeping the matrix up to date.
+     */
+    @Scheduled(fixedDelayString = "${world.statistics.check-ms:5000}")
+    public void refreshIfNeeded() {
+        if (System.currentTimeMillis() >= watcherRetryAt) {
+            startWatcher();
+        }
+        long age = Instant.now().toEpochMilli() - computedAt.toEpochMilli();
+        if (!live && age >= fallbackRefreshMs) {
+            recompute();
+        } else if (dirty.get() || age >= refreshMs) {
+            recompute();
+        }
+    }
+
+    /**
+     * Get the current matrix.
+     *
+     * @return The counts, ordered by language, planet type, scope and active flag
+     */
+    public WorldEntityStatisticsDto snapshot() {
+        List<WorldEntityStatisticsDto.Entry> entries = new ArrayList<>();
+        long total = 0;
+        for (Map.Entry<List<Object>, AtomicLong> count : counts.entrySet()) {
+            long value = count.getValue().get();
+            if (value <= 0) {
+                continue;
+            }
+            List<Object> key = count.getKey();
+            entries.add(new WorldEntityStatisticsDto.Entry((String) key.get(0), (String) key.get(1),
+                    (String) key.get(2), (Boolean) key.get(3), value));
+            total += value;
+        }
+        entries.sort(Comparator.comparing(WorldEntityStatisticsDto.Entry::getLanguage, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                .thenComparing(WorldEntityStatisticsDto.Entry::getPlanetType, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                .thenComparing(WorldEntityStatisticsDto.Entry::getGeographicalScope, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                .thenComparing(WorldEntityStatisticsDto.Entry::getIsActive, Comparator.nullsFirst(Comparator.<Boolean>naturalOrder())));
+
+        return WorldEntityStatisticsDto.builder()
+                .computedAt(computedAt)
+                .live(live)
+                .total(total)
+                .entries(entries)
+                .build();
+    }
+
+    /**
+     * Recompute the whole matrix with one aggregation and swap it in.
+     * Changes received while the aggregation runs are replayed onto the new matrix if the snapshot does not
+     * include them.
+     */
+    public synchronized void recompute() {
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+        dirty.set(false);
+        try {
+            Snapshot snapshot = aggregate();
+            synchronized (lock) {
+                replay(pending, snapshot);
+                counts = snapshot.counts;
+                computedAt = Instant.now();
+            }
+            log.debug("World entity statistics recomputed: {} combinations", snapshot.counts.size());
+        } catch (Exception e) {
+            dirty.set(true);
+            log.warn("Failed to recompute world entity statistics: {}", e.getMessage());
+        } finally {
+            synchronized (lock) {
+                pending = null;
+            }
+        }
+    }
+
+    /**
+     * Run the grouping aggregation, as a snapshot read while a change stream is open.
+     *
+     * @return The counts and the time of the snapshot, which is null if the read was not a snapshot
+     */
+    private Snapshot aggregate() {
+        MongoCollection<Document> worldEntities = mongoTemplate.getCollection(collection);
+        if (live && snapshotReads) {
+            try (ClientSession session = mongoTemplate.getMongoDatabaseFactory()
+                    .getSession(ClientSessionOptions.builder().snapshot(true).build())) {
+                Map<List<Object>, AtomicLong> recomputed = toCounts(worldEntities.aggregate(session, PIPELINE));
+                return new Snapshot(recomputed, session.getSnapshotTimestamp());
+            } catch (MongoClientException | MongoCommandException e) {
+                snapshotReads = false;
+                log.warn("Snapshot reads unavailable, recomputing again when changes overlap a recomputation: {}",
+                        e.getMessage());
+            }
+        }
+        return new Snapshot(toCounts(worldEntities.aggregate(PIPELINE)), null);
+    }
+
+    /**
+     * Apply the changes received during a recomputation to its result. Must be called with the lock held.
+     *
+     * @param changes The changes received while the aggregation ran, in stream order
+     * @param snapshot The result of the aggregation
+     */
+    private void replay(List<ChangeStreamDocument<Document>> changes, Snapshot snapshot) {
+        for (ChangeStreamDocument<Document> change : changes) {
+            if (snapshot.at == null) {
+                // Without a snapshot time it is unknown whether the aggregation saw the change
+                dirty.set(true);
+                return;
+            }
+            BsonTimestamp clusterTime = change.getClusterTime();
+            if (clusterTime != null && clusterTime.compareTo(snapshot.at) > 0) {
+                applyTo(snapshot.counts, change);
+            }
+        }
+    }
+
+    private static Map<List<Object>, AtomicLong> toCounts(AggregateIterable<Document> groups) {
+        Map<List<Object>, AtomicLong> recomputed = new ConcurrentHashMap<>();
+        for (Document group : groups) {
+            Document id = group.get("_id", Document.class);
+            recomputed.put(keyOf(id), new AtomicLong(((Number) group.get("count")).longValue()));
+        }
+        return recomputed;
+    }
+
+    private synchronized void startWatcher() {
+        if (watcher != null && watcher.isAlive()) {
+            return;
+        }
+        watcher = new Thread(this::watch, "world-statistics-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watch() {
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = mongoTemplate.getCollection(collection)
+                .watch()
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(1, TimeUnit.SECONDS)
+                .cursor()) {
+            live = true;
+            // Changes made before the stream was opened may be missing from the matrix
+            dirty.set(true);
+            log.info("Keeping world entity statistics up to date from a change stream");
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change != null) {
+                    apply(change);
+                }
+            }
+        } catch (MongoException | IllegalStateException e) {
+            watcherRetryAt = System.currentTimeMillis() + fallbackRefreshMs;
+            log.warn("Change stream unavailable, falling back to periodic recomputation every {} ms: {}",
+                    fallbackRefreshMs, e.getMessage());
+        } catch (RuntimeException e) {
+            // Restarted on the next check; the restart marks the matrix dirty to cover the missed changes
+            log.error("World entity statistics watcher stopped unexpectedly", e);
+        } finally {
+            live = false;
+        }
+    }
+
+    private void apply(ChangeStreamDocument<Document> change) {
+        synchronized (lock) {
+            if (pending != null) {
+                pending.add(change);
+            }
+            try {
+                applyTo(counts, change);
+            } catch (RuntimeException e) {
+                log.warn("Could not apply change to world entity statistics, recomputing: {}", e.getMessage());
+                dirty.set(true);
+            }
+        }
+    }
+
+    /**
+     * Count an insert in a matrix, or mark the matrix dirty for a change that cannot be applied incrementally.
+     *
+     * @param target The matrix to update
+     * @param change The change
+     */
+    private void applyTo(Map<List<Object>, AtomicLong> target, ChangeStreamDocument<Document> change) {
+        OperationType type = change.getOperationType();
+        if (type == OperationType.INSERT && change.getFullDocument() != null) {
+            target.computeIfAbsent(keyOf(change.getFullDocument()), key -> new AtomicLong()).incrementAndGet();
+        } else if (type != OperationType.UPDATE || change.getUpdateDescription() == null || touchesGrouping(change)) {
+            // Updates that leave the grouping fields alone do not change any count
+            dirty.set(true);
+        }
+    }
+
+    private static boolean touchesGrouping(ChangeStreamDocument<Document> change) {
+        BsonDocument updated = change.getUpdateDescription().getUpdatedFields();
+        List<String> removed = change.getUpdateDescription().getRemovedFields();
+        return (updated != null && updated.keySet().stream().anyMatch(GROUPING_FIELDS::contains))
+                || (removed != null && removed.stream().anyMatch(GROUPING_FIELDS::contains));
+    }
+
+    private static List<Object> keyOf(Document document) {
+        return Arrays.asList(document.getString("language"), document.getString("planetType"),
+                document.getString("geographicalScope"), document.getBoolean("isActive"));
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Result of a recomputation: the counts and the cluster time they reflect, if known.
+     */
+    private static final class Snapshot {
+        private final Map<List<Object>, AtomicLong> counts;
+        private final BsonTimestamp at;
+
+        private Snapshot(Map<List<Object>, AtomicLong> counts, BsonTimestamp at) {
+            this.counts = counts;
+            this.at = at;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.overengineered.world.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight layer for world generation.
+ * Concurrent calls with the same key share one in-flight computation: the first caller runs it,
+ * later callers wait on its future for at most the configured timeout. The entry is removed as
+ * soon as the computation finishes, so results are never cached here.
+ */
+@Component
+@Slf4j
+public class WorldGenerationCoalescer {
+
+    private final ConcurrentMap<Object, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMs;
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public WorldGenerationCoalescer(@Value("${world.generation.single-flight.timeout-ms:2000}") long timeoutMs,
+                                    MeterRegistry meterRegistry) {
+        this.timeoutMs = timeoutMs;
+        this.executed = Counter.builder("world.generate.single.flight")
+                .description("Number of world generation calls, by whether they ran or joined an in-flight call")
+                .tag("outcome", "executed")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("world.generate.single.flight")
+                .description("Number of world generation calls, by whether they ran or joined an in-flight call")
+                .tag("outcome", "coalesced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the computation for a key, or join the one already running for it.
+     *
+     * @param key The key identifying identical calls; must implement equals and hashCode
+     * @param computation The computation to run if no call for the key is in flight
+     * @return The result of the shared computation
+     */
+    public String execute(Object key, Supplier<String> computation) {
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(key, existing);
+        }
+
+        executed.increment();
+        try {
+            String result = computation.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private String await(Object key, CompletableFuture<String> flight) {
+        try {
+            return flight.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out after " + timeoutMs + " ms waiting for in-flight generation of " + key, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("In-flight generation of " + key + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight generation of " + key, e);
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.overengineered.world.service;
 
 import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.dto.BulkWriteResultDto;
+import com.overengineered.world.dto.PriorityChangeDto;
+import com.overengineered.world.dto.WorldEntityCursor;
 import com.overengineered.world.dto.WorldEntityDto;
+import com.overengineered.world.dto.WorldEntityStatisticsDto;
+import com.overengineered.world.dto.WorldEntitySummaryDto;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service interface for managing world entities.
@@ -68,4 +75,50 @@ public interface WorldService {
      * @return The generated world text
      */
     String generateWorld(String language, WorldEntity.PlanetType planetType, WorldEntity.GeographicalScope scope);
+
+    /**
+     * Upsert world entities by UUID in unordered bulk writes, one chunk at a time.
+     * Invalid or failing entries are reported in the result and do not abort the batch.
+     *
+     * @param entities The entities to upsert, consumed lazily; null elements are reported as unparseable
+     * @return The outcome of the bulk write
+     */
+    BulkWriteResultDto bulkUpsertWorldEntities(Stream<WorldEntityDto> entities);
+
+    /**
+     * Stream one page of world entity summaries, highest priority first.
+     *
+     * @param language The language to filter by, or null for all languages
+     * @param after The cursor returned with the previous page, or null for the first page
+     * @param limit The maximum number of summaries in the page
+     * @param consumer Receives each summary as soon as it is read from Mongo
+     * @return The cursor for the next page, or null if this was the last page
+     */
+    WorldEntityCursor streamWorldEntitySummaries(String language, WorldEntityCursor after, int limit,
+                                                 Consumer<WorldEntitySummaryDto> consumer);
+
+    /**
+     * Get the count matrix per language, planet type, geographical scope and active flag.
+     *
+     * @return The world entity statistics, served from memory
+     */
+    WorldEntityStatisticsDto getWorldEntityStatistics();
+
+    /**
+     * Atomically set or increment the priority of a world entity.
+     *
+     * @param id The ID of the entity to change
+     * @param change The priority change
+     * @return The updated entity DTO
+     */
+    WorldEntityDto adjustPriority(String id, PriorityChangeDto change);
+
+    /**
+     * Apply priority changes to many world entities, one bulk write per chunk.
+     * Unknown IDs are reported in the result and do not abort the batch.
+     *
+     * @param changes The priority changes, each with an ID
+     * @return The outcome of the reorder
+     */
+    BulkWriteResultDto reorderWorldEntities(List<PriorityChangeDto> changes);
 }
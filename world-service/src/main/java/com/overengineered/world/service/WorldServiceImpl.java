@@ -1,7 +1,16 @@
 package com.overengineered.world.service;
 
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.overengineered.world.config.CacheConfig;
 import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.dto.BulkWriteResultDto;
+import com.overengineered.world.dto.PriorityChangeDto;
+import com.overengineered.world.dto.WorldEntityCursor;
 import com.overengineered.world.dto.WorldEntityDto;
+import com.overengineered.world.dto.WorldEntityStatisticsDto;
+import com.overengineered.world.dto.WorldEntitySummaryDto;
+import com.overengineered.world.event.WorldEventOutbox;
 import com.overengineered.world.event.WorldGeneratedEvent;
 import com.overengineered.world.exception.WorldEntityNotFoundException;
 import com.overengineered.world.factory.WorldStrategyFactory;
@@ -12,17 +21,36 @@ import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the WorldService interface.
@@ -37,6 +65,14 @@ public class WorldServiceImpl implements WorldService {
     private final WorldEntityMapper worldEntityMapper;
     private final WorldStrategyFactory worldStrategyFactory;
     private final ApplicationEventPublisher eventPublisher;
+    private final WorldGenerationCoalescer worldGenerationCoalescer;
+    private final WorldEventOutbox worldEventOutbox;
+    private final WorldEntityStatistics worldEntityStatistics;
+    private final CacheManager cacheManager;
+    private final Validator validator;
+
+    @Value("${world.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
 
     @Override
     @Cacheable(value = "worldEntities")
@@ -101,16 +137,21 @@ public class WorldServiceImpl implements WorldService {
         log.info("Generating world text in language: {} with planet type: {} and scope: {}", 
                 language, planetType, scope);
         
-        // Select appropriate strategy using factory
-        WorldGenerationStrategy strategy = worldStrategyFactory.getStrategy(language, planetType, scope);
-        
-        // Generate the world text
-        String worldText = strategy.generateWorld(null, language, planetType);
-        
-        // Publish event
-        eventPublisher.publishEvent(new WorldGeneratedEvent(this, worldText, language, planetType, scope, strategy.getStrategyName()));
-        
-        return worldText;
+        // Identical concurrent calls share one generation and one event
+        return worldGenerationCoalescer.execute(Arrays.asList(language, planetType, scope), () -> {
+            // Select appropriate strategy using factory
+            WorldGenerationStrategy strategy = worldStrategyFactory.getStrategy(language, planetType, scope);
+            
+            // Generate the world text
+            String worldText = strategy.generateWorld(null, language, planetType);
+            
+            // Record the event in the outbox for Kafka, then publish it in-process
+            WorldGeneratedEvent event = new WorldGeneratedEvent(this, worldText, language, planetType, scope, strategy.getStrategyName());
+            worldEventOutbox.append(event);
+            eventPublisher.publishEvent(event);
+            
+            return worldText;
+        });
     }
     
     /**
@@ -127,4 +168,215 @@ public class WorldServiceImpl implements WorldService {
         log.warn("Fallback method invoked for generateWorld due to: {}", e.getMessage());
         return "World (fallback)";
     }
+
+    @Override
+    public BulkWriteResultDto bulkUpsertWorldEntities(Stream<WorldEntityDto> entities) {
+        BulkWriteResultDto result = new BulkWriteResultDto();
+        List<WorldEntityDto> chunk = new ArrayList<>(bulkChunkSize);
+        int offset = 0;
+        
+        Iterator<WorldEntityDto> iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == bulkChunkSize || !iterator.hasNext()) {
+                writeChunk(offset, chunk, result);
+                offset += chunk.size();
+                chunk.clear();
+            }
+        }
+        
+        result.setReceived(offset);
+        log.info("Bulk upsert of {} world entities: {} inserted, {} updated, {} failed",
+                result.getReceived(), result.getInserted(), result.getUpdated(), result.getFailed());
+        return result;
+    }
+
+    @Override
+    public WorldEntityCursor streamWorldEntitySummaries(String language, WorldEntityCursor after, int limit,
+                                                        Consumer<WorldEntitySummaryDto> consumer) {
+        log.info("Streaming up to {} world entity summaries for language {} after {}", limit, language, after);
+        WorldEntitySummaryDto last = null;
+        int count = 0;
+        try (Stream<WorldEntitySummaryDto> summaries = worldEntityRepository.streamSummaries(language, after, limit)) {
+            Iterator<WorldEntitySummaryDto> iterator = summaries.iterator();
+            while (iterator.hasNext()) {
+                last = iterator.next();
+                consumer.accept(last);
+                count++;
+            }
+        }
+        
+        // A full page may be followed by more entities; a short page is the last one
+        return count == limit ? WorldEntityCursor.after(last) : null;
+    }
+
+    @Override
+    public WorldEntityStatisticsDto getWorldEntityStatistics() {
+        return worldEntityStatistics.snapshot();
+    }
+
+    @Override
+    public WorldEntityDto adjustPriority(String id, PriorityChangeDto change) {
+        log.info("Adjusting priority of world entity with ID: {} by {}", id, change);
+        WorldEntityDto updated = worldEntityRepository.adjustPriority(id, change.getPriority(), change.getDelta())
+                .map(worldEntityMapper::toDto)
+                .orElseThrow(() -> new WorldEntityNotFoundException("World entity not found with ID: " + id));
+        
+        Cache cache = cacheManager.getCache(CacheConfig.WORLD_ENTITIES_CACHE);
+        if (cache != null) {
+            cache.put(id, updated);
+            evictListingAndUuid(cache, updated.getUuid());
+        }
+        return updated;
+    }
+
+    @Override
+    public BulkWriteResultDto reorderWorldEntities(List<PriorityChangeDto> changes) {
+        BulkWriteResultDto result = new BulkWriteResultDto();
+        result.setReceived(changes.size());
+        Cache cache = cacheManager.getCache(CacheConfig.WORLD_ENTITIES_CACHE);
+        
+        for (int offset = 0; offset < changes.size(); offset += bulkChunkSize) {
+            List<PriorityChangeDto> chunk = changes.subList(offset, Math.min(offset + bulkChunkSize, changes.size()));
+            
+            // One projection read resolves unknown IDs and the UUID cache keys of the rest
+            Map<String, String> uuids = new HashMap<>();
+            worldEntityRepository.findKeysByIdIn(chunk.stream()
+                            .filter(Objects::nonNull)
+                            .map(PriorityChangeDto::getId)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toSet()))
+                    .forEach(keys -> uuids.put(keys.getId(), keys.getUuid()));
+            
+            List<PriorityChangeDto> known = new ArrayList<>(chunk.size());
+            int[] positions = new int[chunk.size()];
+            for (int i = 0; i < chunk.size(); i++) {
+                PriorityChangeDto change = chunk.get(i);
+                String error = validate(change);
+                if (error != null) {
+                    result.addError(offset + i, null, error);
+                } else if (!uuids.containsKey(change.getId())) {
+                    result.addError(offset + i, null, "World entity not found with ID: " + change.getId());
+                } else {
+                    positions[known.size()] = i;
+                    known.add(change);
+                }
+            }
+            if (known.isEmpty()) {
+                continue;
+            }
+            
+            try {
+                result.setUpdated(result.getUpdated() + worldEntityRepository.applyPriorityChanges(known).getMatchedCount());
+            } catch (RuntimeException e) {
+                log.error("Reorder of chunk at offset {} failed", offset, e);
+                for (int i = 0; i < known.size(); i++) {
+                    result.addError(offset + positions[i], uuids.get(known.get(i).getId()), e.getMessage());
+                }
+            } finally {
+                if (cache != null) {
+                    for (PriorityChangeDto change : known) {
+                        cache.evict(change.getId());
+                        if (uuids.get(change.getId()) != null) {
+                            cache.evict(uuids.get(change.getId()));
+                        }
+                    }
+                    cache.evict(SimpleKey.EMPTY);
+                }
+            }
+        }
+        
+        log.info("Reordered {} of {} world entities, {} failed", result.getUpdated(), result.getReceived(), result.getFailed());
+        return result;
+    }
+
+    /**
+     * Evict the cache entries that hold a changed entity under a key other than its ID.
+     *
+     * @param cache The worldEntities cache
+     * @param uuid The UUID of the changed entity
+     */
+    private static void evictListingAndUuid(Cache cache, String uuid) {
+        if (uuid != null) {
+            cache.evict(uuid);
+        }
+        // getAllWorldEntities is cached under the key for a method without parameters
+        cache.evict(SimpleKey.EMPTY);
+    }
+
+    /**
+     * Validate, map and write one chunk of a bulk upsert, then evict the worldEntities cache once.
+     *
+     * @param offset The position of the first entry of the chunk in the whole request
+     * @param chunk The entries of the chunk
+     * @param result The result to add counts and errors to
+     */
+    private void writeChunk(int offset, List<WorldEntityDto> chunk, BulkWriteResultDto result) {
+        // Each index is written by exactly one task, so plain arrays are safe here
+        WorldEntity[] mapped = new WorldEntity[chunk.size()];
+        String[] errors = new String[chunk.size()];
+        IntStream.range(0, chunk.size()).parallel().forEach(i -> {
+            WorldEntityDto dto = chunk.get(i);
+            errors[i] = validate(dto);
+            if (errors[i] == null) {
+                mapped[i] = worldEntityMapper.toEntity(dto);
+                if (mapped[i].getUuid() == null) {
+                    mapped[i].setUuid(UUID.randomUUID().toString());
+                }
+            }
+        });
+        
+        List<WorldEntity> valid = new ArrayList<>(chunk.size());
+        int[] positions = new int[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            if (errors[i] != null) {
+                result.addError(offset + i, chunk.get(i) != null ? chunk.get(i).getUuid() : null, errors[i]);
+            } else {
+                positions[valid.size()] = i;
+                valid.add(mapped[i]);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+        
+        try {
+            addCounts(result, worldEntityRepository.upsertAllByUuid(valid));
+        } catch (BulkOperationException e) {
+            addCounts(result, e.getResult());
+            for (BulkWriteError error : e.getErrors()) {
+                int position = positions[error.getIndex()];
+                result.addError(offset + position, valid.get(error.getIndex()).getUuid(), error.getMessage());
+            }
+        } catch (RuntimeException e) {
+            log.error("Bulk upsert of chunk at offset {} failed", offset, e);
+            for (int i = 0; i < valid.size(); i++) {
+                result.addError(offset + positions[i], valid.get(i).getUuid(), e.getMessage());
+            }
+        } finally {
+            Cache cache = cacheManager.getCache(CacheConfig.WORLD_ENTITIES_CACHE);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private <T> String validate(T dto) {
+        if (dto == null) {
+            return "Entry is empty or could not be parsed";
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static void addCounts(BulkWriteResultDto result, BulkWriteResult writeResult) {
+        result.setInserted(result.getInserted() + writeResult.getUpserts().size());
+        result.setUpdated(result.getUpdated() + writeResult.getMatchedCount());
+    }
 }
@@ -0,0 +1,87 @@
+package com.overengineered.world.service;
+
+import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.document.WorldTranslations;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One-off job that copies the active WorldEntity documents into the embedded-translations model.
+ * For every (planetType, geographicalScope, language) the highest-priority active entity wins.
+ * The job replaces the whole translations map of each target document, so it is safe to run again.
+ * Enabled with {@code world.translations.migration.enabled=true}; runs once the application is ready.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "world.translations.migration", name = "enabled", havingValue = "true")
+public class WorldTranslationsMigration {
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        long started = System.currentTimeMillis();
+        Map<List<Object>, Map<String, WorldTranslations.Translation>> groups = new HashMap<>();
+        long read = 0;
+
+        // The number of groups is bounded by the enum values, so grouping in memory is cheap;
+        // the entities themselves are streamed through a cursor
+        Query query = Query.query(Criteria.where("isActive").is(true));
+        try (CloseableIterator<WorldEntity> entities = mongoTemplate.stream(query, WorldEntity.class)) {
+            while (entities.hasNext()) {
+                WorldEntity entity = entities.next();
+                read++;
+                if (entity.getPlanetType() == null || entity.getLanguage() == null
+                        || !WorldTranslations.LANGUAGE_CODE.matcher(entity.getLanguage()).matches()) {
+                    log.warn("Skipping world entity {} with unusable planet type or language", entity.getUuid());
+                    continue;
+                }
+
+                groups.computeIfAbsent(Arrays.asList(entity.getPlanetType(), entity.getGeographicalScope()), key -> new HashMap<>())
+                        .merge(entity.getLanguage(),
+                                WorldTranslations.Translation.builder()
+                                        .text(entity.getText())
+                                        .priority(entity.getPriority())
+                                        .sourceUuid(entity.getUuid())
+                                        .build(),
+                                (current, candidate) -> priorityOf(candidate) > priorityOf(current) ? candidate : current);
+            }
+        }
+
+        if (groups.isEmpty()) {
+            log.info("No active world entities to migrate");
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WorldTranslations.class);
+        groups.forEach((key, translations) -> operations.upsert(
+                Query.query(Criteria.where("planetType").is(key.get(0)).and("geographicalScope").is(key.get(1))),
+                new Update().set("translations", translations).set("updatedAt", now)));
+        operations.execute();
+
+        log.info("Migrated {} active world entities into {} translation documents in {} ms",
+                read, groups.size(), System.currentTimeMillis() - started);
+    }
+
+    private static int priorityOf(WorldTranslations.Translation translation) {
+        return translation.getPriority() != null ? translation.getPriority() : Integer.MIN_VALUE;
+    }
+}
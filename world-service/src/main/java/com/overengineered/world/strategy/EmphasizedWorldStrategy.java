@@ -4,6 +4,8 @@ import com.overengineered.world.document.WorldEntity;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 /**
  * A strategy that capitalizes and adds emphasis to the world text.
  * This is a completely unnecessary implementation that demonstrates the Strategy pattern.
@@ -12,73 +14,32 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class EmphasizedWorldStrategy implements WorldGenerationStrategy {
 
+    private static final Map<WorldEntity.PlanetType, String> PLANET_NAMES = Map.of(
+            WorldEntity.PlanetType.MARS, "Mars",
+            WorldEntity.PlanetType.JUPITER, "Jupiter",
+            WorldEntity.PlanetType.SATURN, "Saturn",
+            WorldEntity.PlanetType.VENUS, "Venus",
+            WorldEntity.PlanetType.MERCURY, "Mercury",
+            WorldEntity.PlanetType.NEPTUNE, "Neptune",
+            WorldEntity.PlanetType.URANUS, "Uranus",
+            WorldEntity.PlanetType.PLUTO, "Pluto");
+
+    // Emphasis (uppercase and exclamation points) is applied once, when the table is built
+    private final WorldTextTable texts = WorldTextTable.of(PLANET_NAMES, text -> text.toUpperCase() + "!!!");
+
     @Override
     public String generateWorld(String input, String language, WorldEntity.PlanetType planetType) {
         log.info("Generating emphasized world text in language: {} for planet type: {}", language, planetType);
         
-        // First get the standard text for the language and planet type
-        String standardText;
-        if (planetType == WorldEntity.PlanetType.EARTH) {
-            switch (language.toLowerCase()) {
-                case "en":
-                    standardText = "World";
-                    break;
-                case "es":
-                    standardText = "Mundo";
-                    break;
-                case "fr":
-                    standardText = "Monde";
-                    break;
-                case "de":
-                    standardText = "Welt";
-                    break;
-                case "it":
-                    standardText = "Mondo";
-                    break;
-                case "zh":
-                    standardText = "世界";
-                    break;
-                case "ja":
-                    standardText = "世界";
-                    break;
-                default:
-                    log.warn("Unsupported language: {}. Defaulting to English.", language);
-                    standardText = "World";
-            }
-        } else {
-            // Different planet types get different results
-            switch (planetType) {
-                case MARS:
-                    standardText = "Mars";
-                    break;
-                case JUPITER:
-                    standardText = "Jupiter";
-                    break;
-                case SATURN:
-                    standardText = "Saturn";
-                    break;
-                case VENUS:
-                    standardText = "Venus";
-                    break;
-                case MERCURY:
-                    standardText = "Mercury";
-                    break;
-                case NEPTUNE:
-                    standardText = "Neptune";
-                    break;
-                case URANUS:
-                    standardText = "Uranus";
-                    break;
-                case PLUTO:
-                    standardText = "Pluto";
-                    break;
-                default:
-                    standardText = "Universe";
+        int languageId = WorldTextTable.languageId(language);
+        if (languageId < 0) {
+            if (planetType == WorldEntity.PlanetType.EARTH) {
+                log.warn("Unsupported language: {}. Defaulting to English.", language);
             }
+            languageId = WorldTextTable.DEFAULT_LANGUAGE_ID;
         }
         
-        // Now add emphasis (uppercase and exclamation points)
-        String result = standardText.toUpperCase() + "!!!";
+        String result = texts.text(languageId, planetType);
         
         log.debug("Generated emphasized world text: {}", result);
         return result;
@@ -4,6 +4,9 @@ import com.overengineered.world.document.WorldEntity;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
 /**
  * A simple implementation of the WorldGenerationStrategy that returns the standard "World" text.
  * Despite being simple, we've added logging and extra logic to make it complex.
@@ -12,71 +15,33 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class StandardWorldStrategy implements WorldGenerationStrategy {
 
+    private static final Map<WorldEntity.PlanetType, String> PLANET_NAMES = Map.of(
+            WorldEntity.PlanetType.MARS, "Mars",
+            WorldEntity.PlanetType.JUPITER, "Jupiter",
+            WorldEntity.PlanetType.SATURN, "Saturn",
+            WorldEntity.PlanetType.VENUS, "Venus",
+            WorldEntity.PlanetType.MERCURY, "Mercury",
+            WorldEntity.PlanetType.NEPTUNE, "Neptune",
+            WorldEntity.PlanetType.URANUS, "Uranus",
+            WorldEntity.PlanetType.PLUTO, "Pluto (not a planet anymore, but we include it anyway)");
+
+    // Pointlessly precomputed table of texts for every language and planet type
+    private final WorldTextTable texts = WorldTextTable.of(PLANET_NAMES, UnaryOperator.identity());
+
     @Override
     public String generateWorld(String input, String language, WorldEntity.PlanetType planetType) {
         log.info("Generating standard world text in language: {} for planet type: {}", language, planetType);
         
-        String result;
-        // Pointlessly complex implementation for different languages
-        if (planetType == WorldEntity.PlanetType.EARTH) {
-            switch (language.toLowerCase()) {
-                case "en":
-                    result = "World";
-                    break;
-                case "es":
-                    result = "Mundo";
-                    break;
-                case "fr":
-                    result = "Monde";
-                    break;
-                case "de":
-                    result = "Welt";
-                    break;
-                case "it":
-                    result = "Mondo";
-                    break;
-                case "zh":
-                    result = "世界";
-                    break;
-                case "ja":
-                    result = "世界";
-                    break;
-                default:
-                    log.warn("Unsupported language: {}. Defaulting to English.", language);
-                    result = "World";
-            }
-        } else {
-            // Different planet types get different results
-            switch (planetType) {
-                case MARS:
-                    result = "Mars";
-                    break;
-                case JUPITER:
-                    result = "Jupiter";
-                    break;
-                case SATURN:
-                    result = "Saturn";
-                    break;
-                case VENUS:
-                    result = "Venus";
-                    break;
-                case MERCURY:
-                    result = "Mercury";
-                    break;
-                case NEPTUNE:
-                    result = "Neptune";
-                    break;
-                case URANUS:
-                    result = "Uranus";
-                    break;
-                case PLUTO:
-                    result = "Pluto (not a planet anymore, but we include it anyway)";
-                    break;
-                default:
-                    result = "Universe";
+        int languageId = WorldTextTable.languageId(language);
+        if (languageId < 0) {
+            if (planetType == WorldEntity.PlanetType.EARTH) {
+                log.warn("Unsupported language: {}. Defaulting to English.", language);
             }
+            languageId = WorldTextTable.DEFAULT_LANGUAGE_ID;
         }
         
+        String result = texts.text(languageId, planetType);
+        
         log.debug("Generated standard world text: {}", result);
         return result;
     }
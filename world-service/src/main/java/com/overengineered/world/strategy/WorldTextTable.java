@@ -0,0 +1,113 @@
+package com.overengineered.world.strategy;
+
+import com.overengineered.world.document.WorldEntity;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Precomputed world texts, indexed by planet type and then by a compact language id.
+ * Strategies build their table once at startup, so looking up a text is two array loads.
+ * To support a new language, add one row to {@link #EARTH_TEXTS}.
+ */
+public final class WorldTextTable {
+
+    /**
+     * Language code and the word for "World" in that language. The row index is the language id.
+     */
+    private static final String[][] EARTH_TEXTS = {
+            {"en", "World"},
+            {"es", "Mundo"},
+            {"fr", "Monde"},
+            {"de", "Welt"},
+            {"it", "Mondo"},
+            {"zh", "世界"},
+            {"ja", "世界"}
+    };
+
+    /**
+     * Number of supported languages; valid language ids are 0 (inclusive) to this value (exclusive).
+     */
+    public static final int LANGUAGE_COUNT = EARTH_TEXTS.length;
+
+    /**
+     * Language id used when a language is not supported.
+     */
+    public static final int DEFAULT_LANGUAGE_ID = 0;
+
+    private static final Map<String, Integer> LANGUAGE_IDS = new HashMap<>();
+
+    static {
+        for (int id = 0; id < EARTH_TEXTS.length; id++) {
+            LANGUAGE_IDS.put(EARTH_TEXTS[id][0], id);
+        }
+    }
+
+    private final EnumMap<WorldEntity.PlanetType, String[]> texts;
+
+    private WorldTextTable(EnumMap<WorldEntity.PlanetType, String[]> texts) {
+        this.texts = texts;
+    }
+
+    /**
+     * Build a table from the shared language rows and the names of the other planets.
+     *
+     * @param planetNames The text for every planet type other than EARTH
+     * @param decoration A transformation applied once to every entry
+     * @return The materialized table
+     */
+    public static WorldTextTable of(Map<WorldEntity.PlanetType, String> planetNames, UnaryOperator<String> decoration) {
+        EnumMap<WorldEntity.PlanetType, String[]> texts = new EnumMap<>(WorldEntity.PlanetType.class);
+        for (WorldEntity.PlanetType planetType : WorldEntity.PlanetType.values()) {
+            String[] byLanguage = new String[LANGUAGE_COUNT];
+            if (planetType == WorldEntity.PlanetType.EARTH) {
+                for (int id = 0; id < LANGUAGE_COUNT; id++) {
+                    byLanguage[id] = decoration.apply(EARTH_TEXTS[id][1]);
+                }
+            } else {
+                Arrays.fill(byLanguage, decoration.apply(planetNames.getOrDefault(planetType, "Universe")));
+            }
+            texts.put(planetType, byLanguage);
+        }
+        return new WorldTextTable(texts);
+    }
+
+    /**
+     * Resolve a language code to its compact id.
+     *
+     * @param language The language code (case-insensitive)
+     * @return The language id, or -1 if the language is not supported
+     */
+    public static int languageId(String language) {
+        Integer id = LANGUAGE_IDS.get(language);
+        if (id == null) {
+            id = LANGUAGE_IDS.get(language.toLowerCase(Locale.ROOT));
+        }
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Resolve a compact language id back to its language code.
+     *
+     * @param languageId A valid language id
+     * @return The language code
+     */
+    public static String languageCode(int languageId) {
+        return EARTH_TEXTS[languageId][0];
+    }
+
+    /**
+     * Look up the text for a language id and planet type.
+     *
+     * @param languageId A valid language id
+     * @param planetType The planet type
+     * @return The precomputed text
+     */
+    public String text(int languageId, WorldEntity.PlanetType planetType) {
+        return texts.get(planetType)[languageId];
+    }
+}
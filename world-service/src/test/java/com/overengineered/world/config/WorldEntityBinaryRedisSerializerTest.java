@@ -0,0 +1,85 @@
+package com.overengineered.world.config;
+
+import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.dto.WorldEntityDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorldEntityBinaryRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final WorldEntityBinaryRedisSerializer binary = new WorldEntityBinaryRedisSerializer(json, 512);
+
+    @Test
+    void roundTripsSingleEntity() {
+        WorldEntityDto dto = entity(1);
+        dto.setCreatedAt(LocalDateTime.of(2024, 5, 17, 12, 30, 15, 123_456_789));
+        dto.setUpdatedAt(LocalDateTime.of(1969, 12, 31, 23, 59, 59));
+
+        assertEquals(dto, binary.deserialize(binary.serialize(dto)));
+    }
+
+    @Test
+    void roundTripsLargeListWithCompression() {
+        List<WorldEntityDto> list = entities(200);
+
+        byte[] bytes = binary.serialize(list);
+
+        assertEquals((byte) 0xB2, bytes[0]);
+        assertEquals(list, binary.deserialize(bytes));
+    }
+
+    @Test
+    void readsEntriesWrittenAsJson() {
+        WorldEntityDto dto = entity(7);
+
+        assertEquals(dto, binary.deserialize(json.serialize(dto)));
+    }
+
+    @Test
+    void writesOtherValuesAsJson() {
+        assertEquals("plain", json.deserialize(binary.serialize("plain")));
+    }
+
+    @Test
+    void writesEntriesInLessThanHalfTheJsonSize() {
+        WorldEntityDto dto = entity(3);
+
+        assertTrue(binary.serialize(dto).length < json.serialize(dto).length / 2);
+    }
+
+    private static List<WorldEntityDto> entities(int count) {
+        List<WorldEntityDto> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(entity(i));
+        }
+        return list;
+    }
+
+    // Timestamps are left out because the default JSON serializer cannot write them
+    private static WorldEntityDto entity(int i) {
+        return WorldEntityDto.builder()
+                .id("65f0c0ffee" + i)
+                .uuid(UUID.randomUUID().toString())
+                .language("en")
+                .text("World " + i)
+                .isActive(true)
+                .priority(i)
+                .version(1L)
+                .description("Generated world entity")
+                .planetType(WorldEntity.PlanetType.EARTH)
+                .continent(WorldEntity.Continent.EUROPE)
+                .geographicalScope(WorldEntity.GeographicalScope.GLOBAL)
+                .createdBy("system")
+                .source("test")
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.overengineered.world.config;
+
+import com.overengineered.world.document.WorldEntity;
+import com.overengineered.world.dto.WorldEntityDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compares the encode and decode time of world cache entries written as JSON and with
+ * {@link WorldEntityBinaryRedisSerializer}, each with and without compression, for a single entity and for a list.
+ * The bytes per entry of each combination are printed once per fork, before the measurements.
+ * Run with {@code mvn -pl world-service -am test -Pbenchmark -Dbenchmark=WorldEntityRedisSerializerBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class WorldEntityRedisSerializerBenchmark {
+
+    @Param({"json", "json-deflate", "binary", "binary-deflate"})
+    private String format;
+
+    @Param({"1", "200"})
+    private int entries;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+        switch (format) {
+            case "json":
+                serializer = json;
+                break;
+            case "json-deflate":
+                serializer = new DeflatingSerializer(json);
+                break;
+            case "binary":
+                serializer = new WorldEntityBinaryRedisSerializer(json, Integer.MAX_VALUE);
+                break;
+            case "binary-deflate":
+                serializer = new WorldEntityBinaryRedisSerializer(json, 0);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown format: " + format);
+        }
+
+        value = entries == 1 ? entity(0) : entities(entries);
+        bytes = serializer.serialize(value);
+        System.out.printf("%n%s, %d entries: %d bytes, %d bytes per entry%n",
+                format, entries, bytes.length, bytes.length / entries);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(bytes);
+    }
+
+    private static List<WorldEntityDto> entities(int count) {
+        List<WorldEntityDto> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(entity(i));
+        }
+        return list;
+    }
+
+    // Timestamps are left out because the default JSON serializer cannot write them
+    private static WorldEntityDto entity(int i) {
+        return WorldEntityDto.builder()
+                .id("65f0c0ffee" + i)
+                .uuid(UUID.randomUUID().toString())
+                .language(i % 2 == 0 ? "en" : "fr")
+                .text("World " + i)
+                .isActive(true)
+                .priority(i)
+                .version(1L)
+                .description("Generated world entity")
+                .planetType(WorldEntity.PlanetType.values()[i % WorldEntity.PlanetType.values().length])
+                .continent(WorldEntity.Continent.values()[i % WorldEntity.Continent.values().length])
+                .geographicalScope(WorldEntity.GeographicalScope.values()[i % WorldEntity.GeographicalScope.values().length])
+                .createdBy("system")
+                .source("benchmark")
+                .build();
+    }
+
+    /**
+     * Deflates the output of another serializer, as a compressed JSON baseline for the binary format.
+     */
+    private static final class DeflatingSerializer implements RedisSerializer<Object> {
+
+        private final RedisSerializer<Object> delegate;
+
+        private DeflatingSerializer(RedisSerializer<Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public byte[] serialize(Object value) throws SerializationException {
+            byte[] plain = delegate.serialize(value);
+            Deflater deflater = new Deflater();
+            try {
+                deflater.setInput(plain);
+                deflater.finish();
+                ByteArrayOutputStream out = new ByteArrayOutputStream(plain.length / 2 + 16);
+                byte[] buffer = new byte[4096];
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) throws SerializationException {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(bytes);
+                ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+                byte[] buffer = new byte[4096];
+                while (!inflater.finished()) {
+                    int length = inflater.inflate(buffer);
+                    if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new SerializationException("Truncated deflated value");
+                    }
+                    out.write(buffer, 0, length);
+                }
+                return delegate.deserialize(out.toByteArray());
+            } catch (DataFormatException e) {
+                throw new SerializationException("Invalid deflated value", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.overengineered.world.mapper;
+
+import com.overengineered.world.config.MongoConversionConfig;
+import com.overengineered.world.document.WorldEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class WorldEntityConvertersTest {
+
+    private final WorldEntityReadConverter readConverter = new WorldEntityReadConverter();
+    private MongoMappingContext context;
+    private MappingMongoConverter reflective;
+    private MongoCustomConversions explicitConversions;
+    private MongoMappingContext explicitContext;
+    private MappingMongoConverter explicit;
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        context = mappingContext(conversions);
+        reflective = converter(context, conversions);
+
+        // The conversions registered with world.mongo.converter=explicit
+        explicitConversions = new MongoConversionConfig().mongoCustomConversions();
+        explicitContext = mappingContext(explicitConversions);
+        explicit = converter(explicitContext, explicitConversions);
+    }
+
+    @Test
+    void explicitConversionsKeepWorldEntityPersistent() {
+        assertFalse(explicitConversions.isSimpleType(WorldEntity.class));
+
+        MongoPersistentEntity<?> persistentEntity = explicitContext.getRequiredPersistentEntity(WorldEntity.class);
+        assertTrue(persistentEntity.hasVersionProperty());
+        assertNotNull(persistentEntity.getIdProperty());
+        assertEquals(context.getRequiredPersistentEntity(WorldEntity.class).getCollection(), persistentEntity.getCollection());
+    }
+
+    @Test
+    void explicitConversionsWriteReflectively() {
+        WorldEntity entity = entity(1);
+        Document expected = new Document();
+        reflective.write(entity, expected);
+        Document actual = new Document();
+        explicit.write(entity, actual);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void explicitConversionsReadWithTheHandWrittenConverter() {
+        WorldEntity entity = entity(2);
+        Document document = new Document();
+        reflective.write(entity, document);
+
+        assertTrue(explicitConversions.hasCustomReadTarget(Document.class, WorldEntity.class));
+        assertEquals(entity, explicit.read(WorldEntity.class, document));
+    }
+
+    /**
+     * Fails when a WorldEntity property is added without being mapped by the hand-written converter.
+     */
+    @Test
+    void explicitConverterReadsEveryPersistentProperty() {
+        MongoPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(WorldEntity.class);
+        WorldEntity entity = new WorldEntity();
+        PersistentPropertyAccessor<WorldEntity> accessor = persistentEntity.getPropertyAccessor(entity);
+        for (MongoPersistentProperty property : persistentEntity) {
+            accessor.setProperty(property, sampleValue(property));
+        }
+
+        Document document = new Document();
+        reflective.write(entity, document);
+
+        assertEquals(entity, readConverter.convert(document));
+    }
+
+    private static MongoMappingContext mappingContext(MongoCustomConversions conversions) {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        return mappingContext;
+    }
+
+    private static MappingMongoConverter converter(MongoMappingContext mappingContext, MongoCustomConversions conversions) {
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    private static Object sampleValue(MongoPersistentProperty property) {
+        Class<?> type = property.getType();
+        if (property.isIdProperty()) {
+            return new ObjectId().toHexString();
+        } else if (type == String.class) {
+            return "sample " + property.getName();
+        } else if (type == Boolean.class) {
+            return Boolean.TRUE;
+        } else if (type == Integer.class) {
+            return 7;
+        } else if (type == Long.class) {
+            return 7L;
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_000_000);
+        } else if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants[constants.length - 1];
+        }
+        return fail("No sample value for " + property.getName() + " of type " + type.getName());
+    }
+
+    // Timestamps are whole milliseconds, since Mongo dates have no finer precision
+    private static WorldEntity entity(int i) {
+        return WorldEntity.builder()
+                .id(new ObjectId().toHexString())
+                .uuid(UUID.randomUUID().toString())
+                .language("en")
+                .text("World " + i)
+                .isActive(i % 2 == 0)
+                .priority(i)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_000_000))
+                .updatedAt(LocalDateTime.of(2024, 6, 1, 8, 30))
+                .version((long) i)
+                .description("Generated world entity")
+                .planetType(WorldEntity.PlanetType.MARS)
+                .continent(WorldEntity.Continent.ASIA)
+                .geographicalScope(WorldEntity.GeographicalScope.REGIONAL)
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.overengineered.world.mapper;
+
+import com.overengineered.world.config.MongoConversionConfig;
+import com.overengineered.world.document.WorldEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading 10k WorldEntity documents, as getAllWorldEntities does, with the reflective
+ * MappingMongoConverter and with the conversions registered by {@code world.mongo.converter=explicit}.
+ * Run with {@code mvn -pl world-service -am test -Pbenchmark -Dbenchmark=WorldEntityReadBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class WorldEntityReadBenchmark {
+
+    private static final int DOCUMENTS = 10_000;
+
+    private MappingMongoConverter reflective;
+    private MappingMongoConverter explicit;
+    private List<Document> documents;
+
+    @Setup
+    public void setUp() {
+        reflective = converter(new MongoCustomConversions(List.of()));
+        explicit = converter(new MongoConversionConfig().mongoCustomConversions());
+
+        // Documents as the reflective converter stores them
+        documents = new ArrayList<>(DOCUMENTS);
+        for (int i = 0; i < DOCUMENTS; i++) {
+            Document document = new Document();
+            reflective.write(entity(i), document);
+            documents.add(document);
+        }
+    }
+
+    @Benchmark
+    public void reflectiveRead(Blackhole blackhole) {
+        for (Document document : documents) {
+            blackhole.consume(reflective.read(WorldEntity.class, document));
+        }
+    }
+
+    @Benchmark
+    public void explicitRead(Blackhole blackhole) {
+        for (Document document : documents) {
+            blackhole.consume(explicit.read(WorldEntity.class, document));
+        }
+    }
+
+    private static MappingMongoConverter converter(MongoCustomConversions conversions) {
+        MongoMappingContext context = new MongoMappingContext();
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.afterPropertiesSet();
+
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    private static WorldEntity entity(int i) {
+        return WorldEntity.builder()
+                .id(new ObjectId().toHexString())
+                .uuid(UUID.randomUUID().toString())
+                .language(i % 2 == 0 ? "en" : "fr")
+                .text("World " + i)
+                .isActive(i % 3 != 0)
+                .priority(i % 100)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(i))
+                .updatedAt(LocalDateTime.of(2024, 6, 1, 8, 30).plusMinutes(i))
+                .version((long) i)
+                .description("Generated world entity")
+                .planetType(WorldEntity.PlanetType.values()[i % WorldEntity.PlanetType.values().length])
+                .continent(WorldEntity.Continent.values()[i % WorldEntity.Continent.values().length])
+                .geographicalScope(WorldEntity.GeographicalScope.values()[i % WorldEntity.GeographicalScope.values().length])
+                .build();
+    }
+}